@@ -28,6 +28,7 @@ import jakarta.ws.rs.core.Response;
 public class BadRequestException extends ClientErrorException {
 
     private static final long serialVersionUID = 7264647684649480265L;
+    private static final StatusTemplate STACKLESS = new StatusTemplate(Response.Status.BAD_REQUEST);
 
     /**
      * Construct a new bad client request exception.
@@ -107,4 +108,31 @@ public class BadRequestException extends ClientErrorException {
     public BadRequestException(final String message, final Response response, final Throwable cause) {
         super(message, validate(response, Response.Status.BAD_REQUEST), cause);
     }
+
+    /**
+     * Create a new bad client request exception without a stack trace.
+     *
+     * @return new bad client request exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static BadRequestException withoutStackTrace() {
+        return withoutStackTrace(null);
+    }
+
+    /**
+     * Create a new bad client request exception with the supplied detail message without a stack trace.
+     *
+     * @param message the detail message, {@code null} for a message generated from the response status.
+     * @return new bad client request exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static BadRequestException withoutStackTrace(final String message) {
+        return new BadRequestException(STACKLESS, message);
+    }
+
+    private BadRequestException(final StatusTemplate template, final String message) {
+        super(template.message(message), template.newResponse(), null, false);
+    }
 }
@@ -171,4 +171,20 @@ public class ClientErrorException extends WebApplicationException {
     public ClientErrorException(final String message, final Response response, final Throwable cause) {
         super(message, cause, validate(response, Response.Status.Family.CLIENT_ERROR));
     }
+
+    /**
+     * Construct a new client error exception, optionally without a stack trace.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link #getMessage()} method).
+     * @param response client error response. Must have a status code set to a {@code 4xx} status code.
+     * @param cause the underlying cause of the exception.
+     * @param writableStackTrace whether or not the stack trace should be writable.
+     * @throws IllegalArgumentException in case the response status code is not from the
+     * {@link jakarta.ws.rs.core.Response.Status.Family#CLIENT_ERROR} status code family.
+     * @since 3.0
+     */
+    protected ClientErrorException(final String message, final Response response, final Throwable cause,
+            final boolean writableStackTrace) {
+        super(message, cause, validate(response, Response.Status.Family.CLIENT_ERROR), writableStackTrace);
+    }
 }
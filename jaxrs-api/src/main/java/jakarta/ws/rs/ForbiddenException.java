@@ -28,6 +28,7 @@ import jakarta.ws.rs.core.Response;
 public class ForbiddenException extends ClientErrorException {
 
     private static final long serialVersionUID = -2740045367479165061L;
+    private static final StatusTemplate STACKLESS = new StatusTemplate(Response.Status.FORBIDDEN);
 
     /**
      * Construct a new "forbidden" exception.
@@ -107,4 +108,31 @@ public class ForbiddenException extends ClientErrorException {
     public ForbiddenException(final String message, final Response response, final Throwable cause) {
         super(message, validate(response, Response.Status.FORBIDDEN), cause);
     }
+
+    /**
+     * Create a new "forbidden" exception without a stack trace.
+     *
+     * @return new "forbidden" exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static ForbiddenException withoutStackTrace() {
+        return withoutStackTrace(null);
+    }
+
+    /**
+     * Create a new "forbidden" exception with the supplied detail message without a stack trace.
+     *
+     * @param message the detail message, {@code null} for a message generated from the response status.
+     * @return new "forbidden" exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static ForbiddenException withoutStackTrace(final String message) {
+        return new ForbiddenException(STACKLESS, message);
+    }
+
+    private ForbiddenException(final StatusTemplate template, final String message) {
+        super(template.message(message), template.newResponse(), null, false);
+    }
 }
@@ -29,6 +29,7 @@ import jakarta.ws.rs.core.Response;
 public class InternalServerErrorException extends ServerErrorException {
 
     private static final long serialVersionUID = -6515710697540553309L;
+    private static final StatusTemplate STACKLESS = new StatusTemplate(Response.Status.INTERNAL_SERVER_ERROR);
 
     /**
      * Construct a new internal server error exception.
@@ -108,4 +109,31 @@ public class InternalServerErrorException extends ServerErrorException {
     public InternalServerErrorException(final String message, final Response response, final Throwable cause) {
         super(message, validate(response, Response.Status.INTERNAL_SERVER_ERROR), cause);
     }
+
+    /**
+     * Create a new internal server error exception without a stack trace.
+     *
+     * @return new internal server error exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static InternalServerErrorException withoutStackTrace() {
+        return withoutStackTrace(null);
+    }
+
+    /**
+     * Create a new internal server error exception with the supplied detail message without a stack trace.
+     *
+     * @param message the detail message, {@code null} for a message generated from the response status.
+     * @return new internal server error exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static InternalServerErrorException withoutStackTrace(final String message) {
+        return new InternalServerErrorException(STACKLESS, message);
+    }
+
+    private InternalServerErrorException(final StatusTemplate template, final String message) {
+        super(template.message(message), template.newResponse(), null, false);
+    }
 }
@@ -29,6 +29,7 @@ import jakarta.ws.rs.core.Response;
 public class NotAcceptableException extends ClientErrorException {
 
     private static final long serialVersionUID = -1476163816796529078L;
+    private static final StatusTemplate STACKLESS = new StatusTemplate(Response.Status.NOT_ACCEPTABLE);
 
     /**
      * Construct a new "request not acceptable" exception.
@@ -108,4 +109,31 @@ public class NotAcceptableException extends ClientErrorException {
     public NotAcceptableException(final String message, final Response response, final Throwable cause) {
         super(message, validate(response, Response.Status.NOT_ACCEPTABLE), cause);
     }
+
+    /**
+     * Create a new "request not acceptable" exception without a stack trace.
+     *
+     * @return new "request not acceptable" exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static NotAcceptableException withoutStackTrace() {
+        return withoutStackTrace(null);
+    }
+
+    /**
+     * Create a new "request not acceptable" exception with the supplied detail message without a stack trace.
+     *
+     * @param message the detail message, {@code null} for a message generated from the response status.
+     * @return new "request not acceptable" exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static NotAcceptableException withoutStackTrace(final String message) {
+        return new NotAcceptableException(STACKLESS, message);
+    }
+
+    private NotAcceptableException(final StatusTemplate template, final String message) {
+        super(template.message(message), template.newResponse(), null, false);
+    }
 }
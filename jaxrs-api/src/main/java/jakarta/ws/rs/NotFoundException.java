@@ -29,6 +29,7 @@ import jakarta.ws.rs.core.Response;
 public class NotFoundException extends ClientErrorException {
 
     private static final long serialVersionUID = -6820866117511628388L;
+    private static final StatusTemplate STACKLESS = new StatusTemplate(Response.Status.NOT_FOUND);
 
     /**
      * Construct a new "not found" exception.
@@ -108,4 +109,31 @@ public class NotFoundException extends ClientErrorException {
     public NotFoundException(final String message, final Response response, final Throwable cause) {
         super(message, validate(response, Response.Status.NOT_FOUND), cause);
     }
+
+    /**
+     * Create a new "not found" exception without a stack trace.
+     *
+     * @return new "not found" exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static NotFoundException withoutStackTrace() {
+        return withoutStackTrace(null);
+    }
+
+    /**
+     * Create a new "not found" exception with the supplied detail message without a stack trace.
+     *
+     * @param message the detail message, {@code null} for a message generated from the response status.
+     * @return new "not found" exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static NotFoundException withoutStackTrace(final String message) {
+        return new NotFoundException(STACKLESS, message);
+    }
+
+    private NotFoundException(final StatusTemplate template, final String message) {
+        super(template.message(message), template.newResponse(), null, false);
+    }
 }
@@ -29,6 +29,7 @@ import jakarta.ws.rs.core.Response;
 public class NotSupportedException extends ClientErrorException {
 
     private static final long serialVersionUID = -8286622745725405656L;
+    private static final StatusTemplate STACKLESS = new StatusTemplate(Response.Status.UNSUPPORTED_MEDIA_TYPE);
 
     /**
      * Construct a new unsupported media type exception.
@@ -108,4 +109,31 @@ public class NotSupportedException extends ClientErrorException {
     public NotSupportedException(final String message, final Response response, final Throwable cause) {
         super(message, validate(response, Response.Status.UNSUPPORTED_MEDIA_TYPE), cause);
     }
+
+    /**
+     * Create a new unsupported media type exception without a stack trace.
+     *
+     * @return new unsupported media type exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static NotSupportedException withoutStackTrace() {
+        return withoutStackTrace(null);
+    }
+
+    /**
+     * Create a new unsupported media type exception with the supplied detail message without a stack trace.
+     *
+     * @param message the detail message, {@code null} for a message generated from the response status.
+     * @return new unsupported media type exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static NotSupportedException withoutStackTrace(final String message) {
+        return new NotSupportedException(STACKLESS, message);
+    }
+
+    private NotSupportedException(final StatusTemplate template, final String message) {
+        super(template.message(message), template.newResponse(), null, false);
+    }
 }
@@ -111,4 +111,20 @@ public class RedirectionException extends WebApplicationException {
     public URI getLocation() {
         return getResponse().getLocation();
     }
+
+    /**
+     * Construct a new redirection exception, optionally without a stack trace.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link #getMessage()} method).
+     * @param response redirection response. Must have a status code set to a {@code 3xx} status code.
+     * @param cause the underlying cause of the exception.
+     * @param writableStackTrace whether or not the stack trace should be writable.
+     * @throws IllegalArgumentException in case the response status code is not from the
+     * {@link jakarta.ws.rs.core.Response.Status.Family#REDIRECTION} status code family.
+     * @since 3.0
+     */
+    protected RedirectionException(final String message, final Response response, final Throwable cause,
+            final boolean writableStackTrace) {
+        super(message, cause, validate(response, Response.Status.Family.REDIRECTION), writableStackTrace);
+    }
 }
@@ -171,4 +171,20 @@ public class ServerErrorException extends WebApplicationException {
     public ServerErrorException(final String message, final Response response, final Throwable cause) {
         super(message, cause, validate(response, Response.Status.Family.SERVER_ERROR));
     }
+
+    /**
+     * Construct a new server error exception, optionally without a stack trace.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link #getMessage()} method).
+     * @param response server error response. Must have a status code set to a {@code 5xx} status code.
+     * @param cause the underlying cause of the exception.
+     * @param writableStackTrace whether or not the stack trace should be writable.
+     * @throws IllegalArgumentException in case the response status code is not from the
+     * {@link jakarta.ws.rs.core.Response.Status.Family#SERVER_ERROR} status code family.
+     * @since 3.0
+     */
+    protected ServerErrorException(final String message, final Response response, final Throwable cause,
+            final boolean writableStackTrace) {
+        super(message, cause, validate(response, Response.Status.Family.SERVER_ERROR), writableStackTrace);
+    }
 }
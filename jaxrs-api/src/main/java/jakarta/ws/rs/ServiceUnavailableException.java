@@ -35,6 +35,7 @@ import jakarta.ws.rs.ext.RuntimeDelegate;
 public class ServiceUnavailableException extends ServerErrorException {
 
     private static final long serialVersionUID = 3821068205617492633L;
+    private static final StatusTemplate STACKLESS = new StatusTemplate(SERVICE_UNAVAILABLE);
 
     /**
      * Construct a new "service unavailable" exception without any "Retry-After" information specified for the failed
@@ -217,7 +218,34 @@ public class ServiceUnavailableException extends ServerErrorException {
             // not an decimal value; ignoring exception and parsing as date
         }
 
-        final RuntimeDelegate.HeaderDelegate<Date> dateDelegate = RuntimeDelegate.getInstance().createHeaderDelegate(Date.class);
+        final RuntimeDelegate.HeaderDelegate<Date> dateDelegate = RuntimeDelegate.getInstance().getHeaderDelegate(Date.class);
         return dateDelegate.fromString(value);
     }
+
+    /**
+     * Create a new "service unavailable" exception without a stack trace.
+     *
+     * @return new "service unavailable" exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static ServiceUnavailableException withoutStackTrace() {
+        return withoutStackTrace(null);
+    }
+
+    /**
+     * Create a new "service unavailable" exception with the supplied detail message without a stack trace.
+     *
+     * @param message the detail message, {@code null} for a message generated from the response status.
+     * @return new "service unavailable" exception without a stack trace.
+     * @see WebApplicationException
+     * @since 3.0
+     */
+    public static ServiceUnavailableException withoutStackTrace(final String message) {
+        return new ServiceUnavailableException(STACKLESS, message);
+    }
+
+    private ServiceUnavailableException(final StatusTemplate template, final String message) {
+        super(template.message(message), template.newResponse(), null, false);
+    }
 }
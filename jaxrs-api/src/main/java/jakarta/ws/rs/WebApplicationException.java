@@ -17,6 +17,7 @@
 package jakarta.ws.rs;
 
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.ResponseTemplate;
 
 /**
  * Runtime exception for applications.
@@ -24,6 +25,12 @@ import jakarta.ws.rs.core.Response;
  * This exception may be thrown by a resource method, provider or {@link jakarta.ws.rs.core.StreamingOutput}
  * implementation if a specific HTTP error response needs to be produced. Only effective if thrown prior to the response
  * being committed.
+ * <p>
+ * Several subclasses provide {@code withoutStackTrace()} factory methods creating exceptions which do not capture the
+ * stack of the calling thread, which makes them cheap to create on frequently hit error paths. Their responses are
+ * created from shared {@link ResponseTemplate templates} consisting of the status only. Unlike the
+ * responses of the exceptions created by the constructors, they are not built by the
+ * {@link jakarta.ws.rs.ext.RuntimeDelegate} and have neither headers nor an entity.
  *
  * @author Paul Sandoz
  * @author Marek Potociar
@@ -170,6 +177,30 @@ public class WebApplicationException extends RuntimeException {
         }
     }
 
+    /**
+     * Construct a new instance with the supplied message, root cause and response, optionally without a stack trace.
+     * <p>
+     * Exceptions created with a non-writable stack trace do not capture the stack of the creating thread, which makes
+     * them considerably cheaper to create on frequently hit error paths.
+     * </p>
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link #getMessage()} method).
+     * @param cause the underlying cause of the exception.
+     * @param response the response that will be returned to the client, a value of null will be replaced with an internal
+     * server error response (status code 500).
+     * @param writableStackTrace whether or not the stack trace should be writable.
+     * @since 3.0
+     */
+    protected WebApplicationException(final String message, final Throwable cause, final Response response,
+            final boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+        if (response == null) {
+            this.response = Response.serverError().build();
+        } else {
+            this.response = response;
+        }
+    }
+
     private static String computeExceptionMessage(final Response response) {
         final Response.StatusType statusInfo;
         if (response != null) {
@@ -177,6 +208,10 @@ public class WebApplicationException extends RuntimeException {
         } else {
             statusInfo = Response.Status.INTERNAL_SERVER_ERROR;
         }
+        return computeExceptionMessage(statusInfo);
+    }
+
+    private static String computeExceptionMessage(final Response.StatusType statusInfo) {
         return "HTTP " + statusInfo.getStatusCode() + ' ' + statusInfo.getReasonPhrase();
     }
 
@@ -272,4 +307,27 @@ public class WebApplicationException extends RuntimeException {
         }
         return response;
     }
+
+    /**
+     * Status-only response template along with the default message of the exceptions carrying its responses, shared by
+     * the exceptions created without a stack trace.
+     */
+    static final class StatusTemplate {
+
+        private final ResponseTemplate template;
+        private final String defaultMessage;
+
+        StatusTemplate(final Response.StatusType status) {
+            this.template = ResponseTemplate.of(status);
+            this.defaultMessage = computeExceptionMessage(status);
+        }
+
+        String message(final String message) {
+            return message == null ? defaultMessage : message;
+        }
+
+        Response newResponse() {
+            return template.newResponse();
+        }
+    }
 }
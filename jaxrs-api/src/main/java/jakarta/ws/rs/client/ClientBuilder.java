@@ -31,6 +31,7 @@ import javax.net.ssl.SSLContext;
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.core.Configurable;
 import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.internal.FactoryFinder;
 import jakarta.ws.rs.sse.SseEventSource;
 
 /**
@@ -18,7 +18,6 @@ package jakarta.ws.rs.core;
 
 import java.io.Serializable;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -230,7 +229,8 @@ public abstract class AbstractMultivaluedMap<K, V> implements MultivaluedMap<K,
      * Return a non-null list of values for a given key. The returned list may be empty.
      * </p>
      * If there is no entry for the key in the map, a new empty {@link List} instance is created, registered within the map
-     * to hold the values of the key and returned from the method.
+     * to hold the values of the key and returned from the method. The created list is a compact, random access list that
+     * holds a single value without allocating an array and grows on demand.
      *
      * @param key the key.
      * @return value list registered with the key. The method is guaranteed to never return {@code null}.
@@ -238,7 +238,7 @@ public abstract class AbstractMultivaluedMap<K, V> implements MultivaluedMap<K,
     protected final List<V> getValues(final K key) {
         List<V> l = store.get(key);
         if (l == null) {
-            l = new LinkedList<V>();
+            l = new ValueList<V>();
             store.put(key, l);
         }
         return l;
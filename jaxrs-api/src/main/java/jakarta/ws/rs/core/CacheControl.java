@@ -16,14 +16,22 @@
 
 package jakarta.ws.rs.core;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
 
+import jakarta.ws.rs.ext.EncodedHeaderValue;
 import jakarta.ws.rs.ext.RuntimeDelegate;
-import jakarta.ws.rs.ext.RuntimeDelegate.HeaderDelegate;
 
 /**
  * An abstraction for the value of a HTTP Cache-Control response header.
@@ -33,13 +41,8 @@ import jakarta.ws.rs.ext.RuntimeDelegate.HeaderDelegate;
  * @see <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.9">HTTP/1.1 section 14.9</a>
  * @since 1.0
  */
-public class CacheControl {
+public class CacheControl implements EncodedHeaderValue {
 
-    /**
-     * @deprecated This field will be removed in a future version. See https://github.com/eclipse-ee4j/jaxrs-api/issues/607
-     */
-    @Deprecated
-    private static final HeaderDelegate<CacheControl> HEADER_DELEGATE = RuntimeDelegate.getInstance().createHeaderDelegate(CacheControl.class);
     private List<String> privateFields;
     private List<String> noCacheFields;
     private Map<String, String> cacheExtension;
@@ -52,6 +55,11 @@ public class CacheControl {
     private boolean proxyRevalidate;
     private int maxAge = -1;
     private int sMaxAge = -1;
+    // lazily computed header value, reset whenever any of the directives changes
+    private String headerValue;
+    // US-ASCII form of encodedSource, the header value it was computed from
+    private byte[] encodedHeaderValue;
+    private String encodedSource;
 
     /**
      * Create a new instance of CacheControl. The new instance will have the following default settings:
@@ -85,11 +93,11 @@ public class CacheControl {
      *
      * @throws IllegalArgumentException if the supplied string cannot be parsed or is null
      * @deprecated This method will be removed in a future version. Please use
-     * RuntimeDelegate.getInstance().createHeaderDelegate(CacheControl.class).fromString(value) instead.
+     * RuntimeDelegate.getInstance().getHeaderDelegate(CacheControl.class).fromString(value) instead.
      */
     @Deprecated
     public static CacheControl valueOf(final String value) {
-        return HEADER_DELEGATE.fromString(value);
+        return RuntimeDelegate.getInstance().getHeaderDelegate(CacheControl.class).fromString(value);
     }
 
     /**
@@ -112,6 +120,7 @@ public class CacheControl {
      */
     public void setMustRevalidate(final boolean mustRevalidate) {
         this.mustRevalidate = mustRevalidate;
+        this.headerValue = null;
     }
 
     /**
@@ -134,6 +143,7 @@ public class CacheControl {
      */
     public void setProxyRevalidate(final boolean proxyRevalidate) {
         this.proxyRevalidate = proxyRevalidate;
+        this.headerValue = null;
     }
 
     /**
@@ -155,6 +165,7 @@ public class CacheControl {
      */
     public void setMaxAge(final int maxAge) {
         this.maxAge = maxAge;
+        this.headerValue = null;
     }
 
     /**
@@ -176,6 +187,7 @@ public class CacheControl {
      */
     public void setSMaxAge(final int sMaxAge) {
         this.sMaxAge = sMaxAge;
+        this.headerValue = null;
     }
 
     /**
@@ -190,7 +202,7 @@ public class CacheControl {
      */
     public List<String> getNoCacheFields() {
         if (noCacheFields == null) {
-            noCacheFields = new ArrayList<String>();
+            noCacheFields = new FieldList();
         }
         return noCacheFields;
     }
@@ -204,6 +216,7 @@ public class CacheControl {
      */
     public void setNoCache(final boolean noCache) {
         this.noCache = noCache;
+        this.headerValue = null;
     }
 
     /**
@@ -242,7 +255,7 @@ public class CacheControl {
      */
     public List<String> getPrivateFields() {
         if (privateFields == null) {
-            privateFields = new ArrayList<String>();
+            privateFields = new FieldList();
         }
         return privateFields;
     }
@@ -256,6 +269,7 @@ public class CacheControl {
      */
     public void setPrivate(final boolean flag) {
         this.privateFlag = flag;
+        this.headerValue = null;
     }
 
     /**
@@ -278,6 +292,7 @@ public class CacheControl {
      */
     public void setNoTransform(final boolean noTransform) {
         this.noTransform = noTransform;
+        this.headerValue = null;
     }
 
     /**
@@ -299,6 +314,7 @@ public class CacheControl {
      */
     public void setNoStore(final boolean noStore) {
         this.noStore = noStore;
+        this.headerValue = null;
     }
 
     /**
@@ -313,23 +329,50 @@ public class CacheControl {
      */
     public Map<String, String> getCacheExtension() {
         if (cacheExtension == null) {
-            cacheExtension = new HashMap<String, String>();
+            cacheExtension = new ExtensionMap();
         }
         return cacheExtension;
     }
 
     /**
-     * Convert the cache control to a string suitable for use as the value of the corresponding HTTP header.
+     * Convert the cache control to a string suitable for use as the value of the corresponding HTTP header. The string is
+     * computed on the first invocation and reused until any of the cache control directives is modified.
      *
      * @return a stringified cache control
      * @deprecated The format of the toString() method is subject to change in a future version. Please use
-     * RuntimeDelegate.getInstance().createHeaderDelegate(CacheControl.class).toString(value) instead if you rely on the
+     * RuntimeDelegate.getInstance().getHeaderDelegate(CacheControl.class).toString(value) instead if you rely on the
      * format of this method.
      */
     @Override
     @Deprecated
     public String toString() {
-        return HEADER_DELEGATE.toString(this);
+        String header = headerValue;
+        if (header == null) {
+            header = RuntimeDelegate.getInstance().getHeaderDelegate(CacheControl.class).toString(this);
+            headerValue = header;
+        }
+        return header;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The encoded value is computed from {@link #toString()} and reused until any of the cache control directives is
+     * modified.
+     * </p>
+     *
+     * @since 3.0
+     */
+    @Override
+    public ByteBuffer getEncodedHeaderValue() {
+        final String header = toString();
+        byte[] encoded = encodedHeaderValue;
+        if (encoded == null || encodedSource != header) {
+            encoded = header.getBytes(StandardCharsets.US_ASCII);
+            encodedHeaderValue = encoded;
+            encodedSource = header;
+        }
+        return ByteBuffer.wrap(encoded).asReadOnlyBuffer();
     }
 
     /**
@@ -482,4 +525,129 @@ public class CacheControl {
     private static int hashCodeOf(final Map<?, ?> instance) {
         return (instance == null || instance.isEmpty()) ? 0 : instance.hashCode();
     }
+
+    /**
+     * Mutable list of directive field names that resets the memoized header value whenever it is modified.
+     */
+    private final class FieldList extends AbstractList<String> implements RandomAccess {
+
+        private final ArrayList<String> fields = new ArrayList<String>();
+
+        @Override
+        public String get(final int index) {
+            return fields.get(index);
+        }
+
+        @Override
+        public int size() {
+            return fields.size();
+        }
+
+        @Override
+        public String set(final int index, final String element) {
+            headerValue = null;
+            return fields.set(index, element);
+        }
+
+        @Override
+        public void add(final int index, final String element) {
+            fields.add(index, element);
+            modCount++;
+            headerValue = null;
+        }
+
+        @Override
+        public String remove(final int index) {
+            final String removed = fields.remove(index);
+            modCount++;
+            headerValue = null;
+            return removed;
+        }
+    }
+
+    /**
+     * Mutable map of cache extensions that resets the memoized header value whenever it is modified.
+     */
+    private final class ExtensionMap extends AbstractMap<String, String> {
+
+        private final HashMap<String, String> extensions = new HashMap<String, String>();
+
+        @Override
+        public String get(final Object key) {
+            return extensions.get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return extensions.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return extensions.size();
+        }
+
+        @Override
+        public String put(final String key, final String value) {
+            headerValue = null;
+            return extensions.put(key, value);
+        }
+
+        @Override
+        public String remove(final Object key) {
+            headerValue = null;
+            return extensions.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            headerValue = null;
+            extensions.clear();
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<Entry<String, String>>() {
+
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    final Iterator<Entry<String, String>> entries = extensions.entrySet().iterator();
+                    return new Iterator<Entry<String, String>>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            final Entry<String, String> entry = entries.next();
+                            return new SimpleEntry<String, String>(entry) {
+
+                                private static final long serialVersionUID = 5325484187478958358L;
+
+                                @Override
+                                public String setValue(final String value) {
+                                    headerValue = null;
+                                    super.setValue(value);
+                                    return entry.setValue(value);
+                                }
+                            };
+                        }
+
+                        @Override
+                        public void remove() {
+                            entries.remove();
+                            headerValue = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return extensions.size();
+                }
+            };
+        }
+    }
 }
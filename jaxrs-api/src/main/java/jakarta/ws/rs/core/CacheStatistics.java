@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+/**
+ * Immutable snapshot of the statistics of a cache maintained by the API, such as the cache behind
+ * {@link MediaType#valueOf(String)}.
+ *
+ * <p>
+ * The counters are cumulative since the cache was created. They are updated without synchronization, so a snapshot
+ * taken while the cache is in use may be slightly inconsistent.
+ * </p>
+ *
+ * @see MediaType#getCacheStatistics()
+ * @since 3.0
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int maxSize;
+
+    CacheStatistics(final long hitCount, final long missCount, final long evictionCount, final int size,
+            final int maxSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the number of lookups served from the cache.
+     *
+     * @return cache hit count.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get the number of lookups that were not served from the cache.
+     *
+     * @return cache miss count.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Get the number of entries removed to keep the cache within its bounds.
+     *
+     * @return cache eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Get the number of entries cached when the snapshot was taken.
+     *
+     * @return number of cached entries.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the configured, approximate bound of the cache per runtime delegate.
+     *
+     * @return maximum number of cached entries, {@code 0} or less if the cache is disabled.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                + ", size=" + size + ", maxSize=" + maxSize + '}';
+    }
+}
@@ -0,0 +1,530 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A thread-safe implementation of {@link MultivaluedMap} interface.
+ *
+ * <p>
+ * The keys are held in a {@link ConcurrentHashMap} and the values of each key in a {@link CopyOnWriteArrayList}.
+ * {@link #add(Object, Object) add}, {@link #addFirst(Object, Object) addFirst}, {@link #putSingle(Object, Object)
+ * putSingle} and both {@code addAll} methods are atomic with respect to the other operations on the same key; operations
+ * on different keys do not block each other. Lists returned from {@link #get(Object)} are thread-safe views that reflect
+ * subsequent modifications of the key, unless the key is removed or replaced. Iteration over the map and over the value
+ * lists is weakly consistent and never throws {@link java.util.ConcurrentModificationException}.
+ * </p>
+ * <p>
+ * The implementation does not permit {@code null} keys. A supplied {@code null} value is ignored and not added to the
+ * value list, in the same way as the default behavior of {@link AbstractMultivaluedMap}.
+ * </p>
+ * <p>
+ * Value lists are copied on every modification, which makes this class suitable for maps that are read much more often
+ * than written, such as shared configuration or headers set by concurrently executing callbacks.
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map.
+ * @param <V> the type of mapped values.
+ * @since 3.0
+ */
+public class ConcurrentMultivaluedMap<K, V> implements MultivaluedMap<K, V>, ConcurrentMap<K, List<V>>, Serializable {
+
+    private static final long serialVersionUID = -1924362305108219567L;
+
+    private final ConcurrentHashMap<K, List<V>> store;
+
+    /**
+     * Constructs an empty concurrent multivalued map with the default initial capacity ({@code 16}).
+     */
+    public ConcurrentMultivaluedMap() {
+        store = new ConcurrentHashMap<K, List<V>>();
+    }
+
+    /**
+     * Constructs an empty concurrent multivalued map able to hold the specified number of keys without resizing.
+     *
+     * @param initialCapacity the initial capacity.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     */
+    public ConcurrentMultivaluedMap(final int initialCapacity) {
+        store = new ConcurrentHashMap<K, List<V>>(initialCapacity);
+    }
+
+    /**
+     * Constructs a new concurrent multivalued map with the same mappings as the specified {@link MultivaluedMap}. The
+     * {@link List} instances holding the values of each key are created anew instead of being reused.
+     *
+     * @param map the multivalued map whose mappings are to be placed in this multivalued map.
+     * @throws NullPointerException if the specified map or any of its keys is {@code null}.
+     */
+    public ConcurrentMultivaluedMap(final MultivaluedMap<? extends K, ? extends V> map) {
+        this(map.size());
+        for (Map.Entry<? extends K, ? extends List<? extends V>> e : map.entrySet()) {
+            store.put(e.getKey(), copy(e.getValue()));
+        }
+    }
+
+    private static <V> CopyOnWriteArrayList<V> copy(final Collection<? extends V> values) {
+        final CopyOnWriteArrayList<V> list = new CopyOnWriteArrayList<V>();
+        if (values != null) {
+            list.addAll(nonNull(values));
+        }
+        return list;
+    }
+
+    private static <V> Collection<? extends V> nonNull(final Collection<? extends V> values) {
+        if (!values.contains(null)) {
+            return values;
+        }
+        final List<V> result = new ArrayList<V>(values.size());
+        for (V value : values) {
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void putSingle(final K key, final V value) {
+        final CopyOnWriteArrayList<V> values = new CopyOnWriteArrayList<V>();
+        if (value != null) {
+            values.add(value);
+        }
+        store.put(key, values);
+    }
+
+    @Override
+    public void add(final K key, final V value) {
+        store.compute(key, (k, values) -> {
+            final List<V> result = values == null ? new CopyOnWriteArrayList<V>() : values;
+            if (value != null) {
+                result.add(value);
+            }
+            return result;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public final void addAll(final K key, final V... newValues) {
+        if (newValues == null) {
+            throw new NullPointerException("Supplied array of values must not be null.");
+        }
+        if (newValues.length == 0) {
+            return;
+        }
+        final Collection<? extends V> values = nonNull(Arrays.asList(newValues));
+        store.compute(key, (k, current) -> {
+            final List<V> result = current == null ? new CopyOnWriteArrayList<V>() : current;
+            result.addAll(values);
+            return result;
+        });
+    }
+
+    @Override
+    public void addAll(final K key, final List<V> valueList) {
+        if (valueList == null) {
+            throw new NullPointerException("Supplied list of values must not be null.");
+        }
+        if (valueList.isEmpty()) {
+            return;
+        }
+        final Collection<? extends V> values = nonNull(valueList);
+        store.compute(key, (k, current) -> {
+            final List<V> result = current == null ? new CopyOnWriteArrayList<V>() : current;
+            result.addAll(values);
+            return result;
+        });
+    }
+
+    @Override
+    public V getFirst(final K key) {
+        final List<V> values = store.get(key);
+        if (values == null) {
+            return null;
+        }
+        // the iterator works on a snapshot, unlike a size check followed by get(0)
+        final Iterator<V> iterator = values.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void addFirst(final K key, final V value) {
+        store.compute(key, (k, values) -> {
+            final List<V> result = values == null ? new CopyOnWriteArrayList<V>() : values;
+            if (value != null) {
+                result.add(0, value);
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(final MultivaluedMap<K, V> omap) {
+        if (this == omap) {
+            return true;
+        }
+        if (!keySet().equals(omap.keySet())) {
+            return false;
+        }
+        for (Entry<K, List<V>> e : entrySet()) {
+            final List<V> values = new ArrayList<V>(e.getValue());
+            final List<V> olist = omap.get(e.getKey());
+            if (olist == null || values.size() != olist.size()) {
+                return false;
+            }
+            for (V v : values) {
+                if (!olist.contains(v)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return store.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return store.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return store.containsValue(value);
+    }
+
+    @Override
+    public List<V> get(final Object key) {
+        return store.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The supplied list is copied into a thread-safe list.
+     * </p>
+     */
+    @Override
+    public List<V> put(final K key, final List<V> value) {
+        return store.put(key, copy(value));
+    }
+
+    @Override
+    public List<V> remove(final Object key) {
+        return store.remove(key);
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends List<V>> m) {
+        for (Map.Entry<? extends K, ? extends List<V>> e : m.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return store.keySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values are backed by the {@link #entrySet() entry set} of this map.
+     * </p>
+     */
+    @Override
+    public Collection<List<V>> values() {
+        return new AbstractCollection<List<V>>() {
+
+            @Override
+            public Iterator<List<V>> iterator() {
+                final Iterator<Entry<K, List<V>>> entries = entrySet().iterator();
+                return new Iterator<List<V>>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public List<V> next() {
+                        return entries.next().getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return store.size();
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return store.containsValue(o);
+            }
+
+            @Override
+            public void clear() {
+                store.clear();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Lists set using {@link Entry#setValue(Object)} are copied into thread-safe lists.
+     * </p>
+     */
+    @Override
+    public Set<Entry<K, List<V>>> entrySet() {
+        final Set<Entry<K, List<V>>> entries = store.entrySet();
+        return new AbstractSet<Entry<K, List<V>>>() {
+
+            @Override
+            public Iterator<Entry<K, List<V>>> iterator() {
+                final Iterator<Entry<K, List<V>>> iterator = entries.iterator();
+                return new Iterator<Entry<K, List<V>>>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, List<V>> next() {
+                        return new StoreEntry(iterator.next());
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return entries.contains(o);
+            }
+
+            @Override
+            public boolean remove(final Object o) {
+                return entries.remove(o);
+            }
+
+            @Override
+            public void clear() {
+                entries.clear();
+            }
+        };
+    }
+
+    @Override
+    public List<V> putIfAbsent(final K key, final List<V> value) {
+        return store.putIfAbsent(key, copy(value));
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        return store.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(final K key, final List<V> oldValue, final List<V> newValue) {
+        return store.replace(key, oldValue, copy(newValue));
+    }
+
+    @Override
+    public List<V> replace(final K key, final List<V> value) {
+        return store.replace(key, copy(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A list returned from the mapping function is copied into a thread-safe list, the returned list is the one held by
+     * this map.
+     * </p>
+     */
+    @Override
+    public List<V> computeIfAbsent(final K key, final Function<? super K, ? extends List<V>> mappingFunction) {
+        final List<V> values = store.get(key);
+        if (values != null) {
+            return values;
+        }
+        return store.computeIfAbsent(key, k -> threadSafe(mappingFunction.apply(k), null));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A list returned from the remapping function is copied into a thread-safe list, unless it is the list currently held
+     * by this map. The returned list is the one held by this map.
+     * </p>
+     */
+    @Override
+    public List<V> computeIfPresent(final K key,
+            final BiFunction<? super K, ? super List<V>, ? extends List<V>> remappingFunction) {
+        return store.computeIfPresent(key, (k, current) -> threadSafe(remappingFunction.apply(k, current), current));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A list returned from the remapping function is copied into a thread-safe list, unless it is the list currently held
+     * by this map. The returned list is the one held by this map.
+     * </p>
+     */
+    @Override
+    public List<V> compute(final K key,
+            final BiFunction<? super K, ? super List<V>, ? extends List<V>> remappingFunction) {
+        return store.compute(key, (k, current) -> threadSafe(remappingFunction.apply(k, current), current));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The supplied list and a list returned from the remapping function are copied into thread-safe lists, unless the
+     * latter is the list currently held by this map. The returned list is the one held by this map.
+     * </p>
+     */
+    @Override
+    public List<V> merge(final K key, final List<V> value,
+            final BiFunction<? super List<V>, ? super List<V>, ? extends List<V>> remappingFunction) {
+        if (value == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        return store.compute(key, (k, current) -> current == null
+                ? copy(value)
+                : threadSafe(remappingFunction.apply(current, value), current));
+    }
+
+    private static <V> List<V> threadSafe(final List<V> values, final List<V> current) {
+        return values == null || values == current ? values : copy(values);
+    }
+
+    @Override
+    public String toString() {
+        return store.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return store.hashCode();
+    }
+
+    @Override
+    @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+    public boolean equals(final Object o) {
+        return store.equals(o);
+    }
+
+    /**
+     * Entry of the store copying the lists set as its value.
+     */
+    private final class StoreEntry implements Entry<K, List<V>> {
+
+        private final K key;
+        private List<V> value;
+
+        private StoreEntry(final Entry<K, List<V>> entry) {
+            this.key = entry.getKey();
+            this.value = entry.getValue();
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public List<V> getValue() {
+            return value;
+        }
+
+        @Override
+        public List<V> setValue(final List<V> value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            final List<V> previous = this.value;
+            this.value = copy(value);
+            store.put(key, this.value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return key.equals(e.getKey()) && value.equals(e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
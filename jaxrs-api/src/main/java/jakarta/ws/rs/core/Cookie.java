@@ -16,8 +16,11 @@
 
 package jakarta.ws.rs.core;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.ext.EncodedHeaderValue;
 import jakarta.ws.rs.ext.RuntimeDelegate;
-import jakarta.ws.rs.ext.RuntimeDelegate.HeaderDelegate;
 
 /**
  * Represents the value of a HTTP cookie, transferred in a request. RFC 2109 specifies the legal characters for name,
@@ -28,22 +31,21 @@ import jakarta.ws.rs.ext.RuntimeDelegate.HeaderDelegate;
  * @see <a href="http://www.ietf.org/rfc/rfc2109.txt">IETF RFC 2109</a>
  * @since 1.0
  */
-public class Cookie {
+public class Cookie implements EncodedHeaderValue {
 
     /**
      * Cookies using the default version correspond to RFC 2109.
      */
     public static final int DEFAULT_VERSION = 1;
-    /**
-     * @deprecated This field will be removed in a future version. See https://github.com/eclipse-ee4j/jaxrs-api/issues/607
-     */
-    @Deprecated
-    private static final HeaderDelegate<Cookie> HEADER_DELEGATE = RuntimeDelegate.getInstance().createHeaderDelegate(Cookie.class);
     private final String name;
     private final String value;
     private final int version;
     private final String path;
     private final String domain;
+    // lazily computed header value, see toString()
+    private String headerValue;
+    // lazily computed US-ASCII form of the header value
+    private byte[] encodedHeaderValue;
 
     /**
      * Create a new instance.
@@ -100,11 +102,11 @@ public class Cookie {
      * @return the newly created {@code Cookie}.
      * @throws IllegalArgumentException if the supplied string cannot be parsed or is {@code null}.
      * @deprecated This method will be removed in a future version. Please use
-     * RuntimeDelegate.getInstance().createHeaderDelegate(Cookie.class).fromString(value) instead.
+     * RuntimeDelegate.getInstance().getHeaderDelegate(Cookie.class).fromString(value) instead.
      */
     @Deprecated
     public static Cookie valueOf(final String value) {
-        return HEADER_DELEGATE.fromString(value);
+        return RuntimeDelegate.getInstance().getHeaderDelegate(Cookie.class).fromString(value);
     }
 
     /**
@@ -157,13 +159,19 @@ public class Cookie {
      *
      * @return a stringified cookie.
      * @deprecated The format of the toString() method is subject to change in a future version. Please use
-     * RuntimeDelegate.getInstance().createHeaderDelegate(Cookie.class).toString(value) instead if you rely on the format of
+     * RuntimeDelegate.getInstance().getHeaderDelegate(Cookie.class).toString(value) instead if you rely on the format of
      * this method.
      */
     @Override
     @Deprecated
     public String toString() {
-        return HEADER_DELEGATE.toString(this);
+        // racy single-check idiom; the instance is immutable so concurrent computations yield equal strings
+        String header = headerValue;
+        if (header == null) {
+            header = RuntimeDelegate.getInstance().getHeaderDelegate(Cookie.class).toString(this);
+            headerValue = header;
+        }
+        return header;
     }
 
     /**
@@ -216,4 +224,22 @@ public class Cookie {
         }
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The encoded value is computed from {@link #toString()} on the first invocation and reused afterwards.
+     * </p>
+     *
+     * @since 3.0
+     */
+    @Override
+    public ByteBuffer getEncodedHeaderValue() {
+        byte[] encoded = encodedHeaderValue;
+        if (encoded == null) {
+            encoded = toString().getBytes(StandardCharsets.US_ASCII);
+            encodedHeaderValue = encoded;
+        }
+        return ByteBuffer.wrap(encoded).asReadOnlyBuffer();
+    }
 }
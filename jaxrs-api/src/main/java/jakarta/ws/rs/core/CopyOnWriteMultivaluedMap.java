@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * A copy-on-write {@link MultivaluedMap} view of another multivalued map.
+ *
+ * <p>
+ * The view shares the keys and value lists of the wrapped map until it is modified for the first time. The first
+ * modification copies the key to value list mappings, still sharing the value lists, and each value list is copied only
+ * when the values of its key are modified. Passing a map through a chain of stages that merely read it thus costs no
+ * copying at all, while a stage adding a single header copies just the mappings and one list. The wrapped map itself is
+ * never modified.
+ * </p>
+ * <p>
+ * Lists returned from {@link #get(Object)} for keys that have not been modified yet are copy-on-write views as well:
+ * modifying such a list copies the values of the key into this map first. The wrapped map must not be modified while the
+ * view is in use, which is guaranteed for maps created by {@link MultivaluedMap#freeze()}. If the wrapped map is a
+ * {@link HeaderMultivaluedMap} or a snapshot of one, keys remain case-insensitive after the first modification.
+ * </p>
+ * <p>
+ * By default the implementation ignores {@code null} values, see {@link AbstractMultivaluedMap}. The implementation is
+ * not synchronized.
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map.
+ * @param <V> the type of mapped values.
+ * @since 3.0
+ */
+public class CopyOnWriteMultivaluedMap<K, V> extends AbstractMap<K, List<V>>
+        implements MultivaluedMap<K, V>, Serializable {
+
+    private static final long serialVersionUID = 2614795431016230496L;
+
+    private final Map<K, List<V>> source;
+    private Map<K, List<V>> own;
+    private Set<List<V>> copied;
+
+    /**
+     * Create a copy-on-write view of the supplied map.
+     *
+     * @param source the map to be shared until this view is modified.
+     * @throws NullPointerException if the supplied map is {@code null}.
+     */
+    public CopyOnWriteMultivaluedMap(final MultivaluedMap<K, V> source) {
+        if (source == null) {
+            throw new NullPointerException("Source map must not be null.");
+        }
+        this.source = source;
+    }
+
+    /**
+     * Check whether this view still shares all of its mappings with the wrapped map.
+     *
+     * @return {@code true} if this view has not been modified yet, {@code false} otherwise.
+     */
+    public boolean isShared() {
+        return own == null;
+    }
+
+    private Map<K, List<V>> read() {
+        return own != null ? own : source;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, List<V>> write() {
+        if (own == null) {
+            final Map<K, List<V>> map;
+            if (ImmutableMultivaluedMap.isCaseInsensitive(source)) {
+                map = (Map<K, List<V>>) (Map<?, ?>) HeaderMultivaluedMap.<V>newStore(source.size() * 2 + 4);
+            } else {
+                map = new LinkedHashMap<K, List<V>>(source.size() * 4 / 3 + 4);
+            }
+            map.putAll(source);
+            copied = Collections.newSetFromMap(new IdentityHashMap<List<V>, Boolean>());
+            own = map;
+        }
+        return own;
+    }
+
+    /**
+     * Get a value list of the key owned by this map, copying the shared list or creating a new one if necessary.
+     */
+    private List<V> values(final K key) {
+        final Map<K, List<V>> map = write();
+        List<V> values = map.get(key);
+        if (values == null || !copied.contains(values)) {
+            values = values == null ? new ValueList<V>() : new ValueList<V>(values);
+            map.put(key, values);
+            copied.add(values);
+        }
+        return values;
+    }
+
+    @Override
+    public List<V> get(final Object key) {
+        final List<V> values = read().get(key);
+        if (values == null || own != null && copied.contains(values)) {
+            return values;
+        }
+        @SuppressWarnings("unchecked")
+        final K k = (K) key;
+        return new SharedValues(k, values);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return read().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return read().size();
+    }
+
+    @Override
+    public List<V> put(final K key, final List<V> value) {
+        final List<V> previous = write().put(key, value);
+        if (value != null) {
+            copied.add(value);
+        }
+        return previous;
+    }
+
+    @Override
+    public List<V> remove(final Object key) {
+        if (!read().containsKey(key)) {
+            return null;
+        }
+        return write().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (own == null && source.isEmpty()) {
+            return;
+        }
+        write().clear();
+        copied.clear();
+    }
+
+    @Override
+    public Set<Entry<K, List<V>>> entrySet() {
+        return new AbstractSet<Entry<K, List<V>>>() {
+
+            @Override
+            public Iterator<Entry<K, List<V>>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return CopyOnWriteMultivaluedMap.this.size();
+            }
+
+            @Override
+            public void clear() {
+                CopyOnWriteMultivaluedMap.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public void putSingle(final K key, final V value) {
+        final List<V> values = write().get(key);
+        if (values != null && copied.contains(values)) {
+            values.clear();
+            if (value != null) {
+                values.add(value);
+            }
+        } else {
+            final List<V> single = new ValueList<V>();
+            if (value != null) {
+                single.add(value);
+            }
+            put(key, single);
+        }
+    }
+
+    @Override
+    public void add(final K key, final V value) {
+        final List<V> values = values(key);
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(final K key, final V... newValues) {
+        if (newValues == null) {
+            throw new NullPointerException("Supplied array of values must not be null.");
+        }
+        if (newValues.length == 0) {
+            return;
+        }
+        final List<V> values = values(key);
+        for (V value : newValues) {
+            if (value != null) {
+                values.add(value);
+            }
+        }
+    }
+
+    @Override
+    public void addAll(final K key, final List<V> valueList) {
+        if (valueList == null) {
+            throw new NullPointerException("Supplied list of values must not be null.");
+        }
+        if (valueList.isEmpty()) {
+            return;
+        }
+        final List<V> values = values(key);
+        for (V value : valueList) {
+            if (value != null) {
+                values.add(value);
+            }
+        }
+    }
+
+    @Override
+    public V getFirst(final K key) {
+        final List<V> values = read().get(key);
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    @Override
+    public void addFirst(final K key, final V value) {
+        final List<V> values = values(key);
+        if (value != null) {
+            values.add(0, value);
+        }
+    }
+
+    @Override
+    public boolean equalsIgnoreValueOrder(final MultivaluedMap<K, V> omap) {
+        if (this == omap) {
+            return true;
+        }
+        if (!keySet().equals(omap.keySet())) {
+            return false;
+        }
+        for (Entry<K, List<V>> e : read().entrySet()) {
+            final List<V> olist = omap.get(e.getKey());
+            if (e.getValue().size() != olist.size()) {
+                return false;
+            }
+            for (V v : e.getValue()) {
+                if (!olist.contains(v)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Iterator over the entries of the currently read map. Modifications made through the iterator or the entries are
+     * applied to the owned copy of the mappings.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, List<V>>> {
+
+        private final Map<K, List<V>> map = read();
+        private final Iterator<Entry<K, List<V>>> iterator = map.entrySet().iterator();
+        private Entry<K, List<V>> current;
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Entry<K, List<V>> next() {
+            final Entry<K, List<V>> next = iterator.next();
+            current = next;
+            return new ViewEntry(next.getKey());
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            if (map == own) {
+                iterator.remove();
+            } else {
+                write().remove(current.getKey());
+            }
+            current = null;
+        }
+    }
+
+    /**
+     * Entry reading and writing the value of its key through this map.
+     */
+    private final class ViewEntry implements Entry<K, List<V>> {
+
+        private final K key;
+
+        private ViewEntry(final K key) {
+            this.key = key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public List<V> getValue() {
+            return get(key);
+        }
+
+        @Override
+        public List<V> setValue(final List<V> value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> e = (Entry<?, ?>) o;
+            final List<V> value = getValue();
+            return (key == null ? e.getKey() == null : key.equals(e.getKey()))
+                    && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            final List<V> value = getValue();
+            return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /**
+     * View of a value list still shared with the wrapped map. Reads go to the current list of the key, the first
+     * modification copies the list into this map.
+     */
+    private final class SharedValues extends AbstractList<V> implements RandomAccess {
+
+        private final K key;
+        private final List<V> shared;
+
+        private SharedValues(final K key, final List<V> shared) {
+            this.key = key;
+            this.shared = shared;
+        }
+
+        private List<V> current() {
+            final List<V> values = read().get(key);
+            return values != null ? values : shared;
+        }
+
+        @Override
+        public V get(final int index) {
+            return current().get(index);
+        }
+
+        @Override
+        public int size() {
+            return current().size();
+        }
+
+        @Override
+        public V set(final int index, final V element) {
+            return values(key).set(index, element);
+        }
+
+        @Override
+        public void add(final int index, final V element) {
+            values(key).add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public V remove(final int index) {
+            final V removed = values(key).remove(index);
+            modCount++;
+            return removed;
+        }
+    }
+}
@@ -16,10 +16,12 @@
 
 package jakarta.ws.rs.core;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
+import jakarta.ws.rs.ext.EncodedHeaderValue;
 import jakarta.ws.rs.ext.RuntimeDelegate;
-import jakarta.ws.rs.ext.RuntimeDelegate.HeaderDelegate;
 
 /**
  * An abstraction for the value of a HTTP Entity Tag, used as the value of an ETag response header.
@@ -29,14 +31,13 @@ import jakarta.ws.rs.ext.RuntimeDelegate.HeaderDelegate;
  * @see <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec3.html#sec3.11">HTTP/1.1 section 3.11</a>
  * @since 1.0
  */
-public class EntityTag {
-    /**
-     * @deprecated This field will be removed in a future version. See https://github.com/eclipse-ee4j/jaxrs-api/issues/607
-     */
-    @Deprecated
-    private static final HeaderDelegate<EntityTag> HEADER_DELEGATE = RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class);
-    private String value;
-    private boolean weak;
+public class EntityTag implements EncodedHeaderValue {
+    private final String value;
+    private final boolean weak;
+    // lazily computed header value, see toString()
+    private String headerValue;
+    // lazily computed US-ASCII form of the header value
+    private byte[] encodedHeaderValue;
 
     /**
      * Creates a new instance of a strong {@code EntityTag}.
@@ -70,11 +71,11 @@ public class EntityTag {
      * @return the newly created entity tag.
      * @throws IllegalArgumentException if the supplied string cannot be parsed or is {@code null}.
      * @deprecated This method will be removed in a future version. Please use
-     * RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).fromString(value) instead.
+     * RuntimeDelegate.getInstance().getHeaderDelegate(EntityTag.class).fromString(value) instead.
      */
     @Deprecated
     public static EntityTag valueOf(final String value) {
-        return HEADER_DELEGATE.fromString(value);
+        return RuntimeDelegate.getInstance().getHeaderDelegate(EntityTag.class).fromString(value);
     }
 
     /**
@@ -130,12 +131,36 @@ public class EntityTag {
      *
      * @return a string version of the entity tag.
      * @deprecated The format of the toString() method is subject to change in a future version. Please use
-     * RuntimeDelegate.getInstance().createHeaderDelegate(EntityTag.class).toString(value) instead if you rely on the format
+     * RuntimeDelegate.getInstance().getHeaderDelegate(EntityTag.class).toString(value) instead if you rely on the format
      * of this method.
      */
     @Override
     @Deprecated
     public String toString() {
-        return HEADER_DELEGATE.toString(this);
+        // racy single-check idiom; the instance is immutable so concurrent computations yield equal strings
+        String header = headerValue;
+        if (header == null) {
+            header = RuntimeDelegate.getInstance().getHeaderDelegate(EntityTag.class).toString(this);
+            headerValue = header;
+        }
+        return header;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The encoded value is computed from {@link #toString()} on the first invocation and reused afterwards.
+     * </p>
+     *
+     * @since 3.0
+     */
+    @Override
+    public ByteBuffer getEncodedHeaderValue() {
+        byte[] encoded = encodedHeaderValue;
+        if (encoded == null) {
+            encoded = toString().getBytes(StandardCharsets.US_ASCII);
+            encodedHeaderValue = encoded;
+        }
+        return ByteBuffer.wrap(encoded).asReadOnlyBuffer();
     }
 }
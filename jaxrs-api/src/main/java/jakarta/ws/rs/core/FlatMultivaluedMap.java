@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A compact implementation of {@link MultivaluedMap} interface tuned for small maps, such as the headers of a single
+ * HTTP message.
+ *
+ * <p>
+ * Keys and value lists are stored in two parallel arrays addressed by open addressing with linear probing, so that a
+ * mapping costs two array slots instead of a separate hash table entry object. Removal uses backward-shift deletion,
+ * which keeps lookups free of tombstones. Once the map grows beyond 64 keys, the mappings are moved
+ * to a {@link HashMap} and the map continues to behave as a {@link MultivaluedHashMap}.
+ * </p>
+ * <p>
+ * This class makes no guarantees as to the order of the map. The implementation permits {@code null} key. By default
+ * the implementation does also permit {@code null} values, but ignores them, see {@link AbstractMultivaluedMap}.
+ * </p>
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> The iterators returned by the collection views
+ * are <i>fail-fast</i> on a best-effort basis, the same way as those of {@link MultivaluedHashMap}.
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map.
+ * @param <V> the type of mapped values.
+ * @since 3.0
+ */
+public class FlatMultivaluedMap<K, V> extends AbstractMultivaluedMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 3021815470425716427L;
+
+    /**
+     * Maximum number of keys kept in the flat arrays before the mappings are moved to a {@link HashMap}.
+     */
+    static final int MAX_FLAT_SIZE = 64;
+
+    /**
+     * Constructs an empty flat multivalued map sized for a typical set of HTTP headers.
+     */
+    public FlatMultivaluedMap() {
+        super(new Store<K, V>(16));
+    }
+
+    /**
+     * Constructs an empty flat multivalued map able to hold the specified number of keys without resizing.
+     *
+     * @param initialCapacity the expected number of keys.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     */
+    public FlatMultivaluedMap(final int initialCapacity) {
+        super(new Store<K, V>(initialCapacity));
+    }
+
+    /**
+     * Constructs a new flat multivalued map with the same mappings as the specified {@link MultivaluedMap}. The
+     * {@link List} instances holding the values of each key are created anew instead of being reused.
+     *
+     * @param map the multivalued map whose mappings are to be placed in this multivalued map.
+     * @throws NullPointerException if the specified map is {@code null}
+     */
+    public FlatMultivaluedMap(final MultivaluedMap<? extends K, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    private <T extends K, U extends V> void putAll(final MultivaluedMap<T, U> map) {
+        for (Entry<T, List<U>> e : map.entrySet()) {
+            store.put(e.getKey(), new ValueList<V>(e.getValue()));
+        }
+    }
+
+    /**
+     * Check whether the mappings have been moved out of the flat arrays.
+     */
+    boolean isOverflowed() {
+        return ((Store<K, V>) store).overflow != null;
+    }
+
+    /**
+     * Open addressing store with parallel key and value arrays.
+     *
+     * @param <K> the type of keys.
+     * @param <V> the type of mapped values.
+     */
+    private static final class Store<K, V> extends AbstractMap<K, List<V>> implements Serializable {
+
+        private static final long serialVersionUID = -2867412795632089634L;
+
+        /**
+         * Marker for the {@code null} key, empty slots hold {@code null}.
+         */
+        private static final Object NULL_KEY = new Object();
+
+        private transient Object[] keys;
+        private transient Object[] values;
+        private transient int size;
+        private transient int modCount;
+        private transient HashMap<K, List<V>> overflow;
+
+        private Store(final int initialCapacity) {
+            if (initialCapacity < 0) {
+                throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+            }
+            init(initialCapacity);
+        }
+
+        private void init(final int expectedSize) {
+            final int capacity = tableSize(Math.min(expectedSize, MAX_FLAT_SIZE));
+            keys = new Object[capacity];
+            values = new Object[capacity];
+        }
+
+        /**
+         * Table size keeping the load factor at or below 2/3.
+         */
+        private static int tableSize(final int expectedSize) {
+            int capacity = 4;
+            while (capacity * 2 < expectedSize * 3) {
+                capacity <<= 1;
+            }
+            return capacity;
+        }
+
+        private static Object mask(final Object key) {
+            return key == null ? NULL_KEY : key;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <K> K unmask(final Object key) {
+            return key == NULL_KEY ? null : (K) key;
+        }
+
+        private static int slot(final Object key, final int length) {
+            final int h = key.hashCode();
+            return (h ^ (h >>> 16)) & (length - 1);
+        }
+
+        private int indexOf(final Object key) {
+            final Object k = mask(key);
+            final Object[] table = keys;
+            final int last = table.length - 1;
+            for (int i = slot(k, table.length);; i = (i + 1) & last) {
+                final Object candidate = table[i];
+                if (candidate == null) {
+                    return -1;
+                }
+                if (candidate == k || candidate.equals(k)) {
+                    return i;
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<V> get(final Object key) {
+            if (overflow != null) {
+                return overflow.get(key);
+            }
+            final int i = indexOf(key);
+            return i < 0 ? null : (List<V>) values[i];
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            if (overflow != null) {
+                return overflow.containsKey(key);
+            }
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<V> put(final K key, final List<V> value) {
+            if (overflow != null) {
+                return overflow.put(key, value);
+            }
+            final Object k = mask(key);
+            final int last = keys.length - 1;
+            int i = slot(k, keys.length);
+            for (Object candidate; (candidate = keys[i]) != null; i = (i + 1) & last) {
+                if (candidate == k || candidate.equals(k)) {
+                    final List<V> previous = (List<V>) values[i];
+                    values[i] = value;
+                    return previous;
+                }
+            }
+            if (size == MAX_FLAT_SIZE) {
+                overflow();
+                return overflow.put(key, value);
+            }
+            keys[i] = k;
+            values[i] = value;
+            size++;
+            modCount++;
+            if (size * 3 > keys.length * 2) {
+                rehash(keys.length << 1);
+            }
+            return null;
+        }
+
+        private void rehash(final int capacity) {
+            final Object[] oldKeys = keys;
+            final Object[] oldValues = values;
+            keys = new Object[capacity];
+            values = new Object[capacity];
+            final int last = capacity - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                final Object k = oldKeys[j];
+                if (k != null) {
+                    int i = slot(k, capacity);
+                    while (keys[i] != null) {
+                        i = (i + 1) & last;
+                    }
+                    keys[i] = k;
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void overflow() {
+            final HashMap<K, List<V>> map = new HashMap<K, List<V>>(size * 4);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    map.put(Store.<K>unmask(keys[i]), (List<V>) values[i]);
+                }
+            }
+            overflow = map;
+            keys = null;
+            values = null;
+            size = 0;
+            modCount++;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<V> remove(final Object key) {
+            if (overflow != null) {
+                return overflow.remove(key);
+            }
+            final int i = indexOf(key);
+            if (i < 0) {
+                return null;
+            }
+            final List<V> previous = (List<V>) values[i];
+            delete(i);
+            return previous;
+        }
+
+        /**
+         * Remove the mapping in the given slot, shifting back the following entries of the probe run that would no longer
+         * be reachable.
+         */
+        private void delete(int hole) {
+            final Object[] table = keys;
+            final int last = table.length - 1;
+            for (int i = (hole + 1) & last; table[i] != null; i = (i + 1) & last) {
+                final int home = slot(table[i], table.length);
+                // move the entry unless its home slot lies cyclically within (hole, i]
+                if (((i - home) & last) >= ((i - hole) & last)) {
+                    table[hole] = table[i];
+                    values[hole] = values[i];
+                    hole = i;
+                }
+            }
+            table[hole] = null;
+            values[hole] = null;
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public void clear() {
+            if (overflow != null) {
+                overflow = null;
+                init(0);
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = null;
+                    values[i] = null;
+                }
+            }
+            size = 0;
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return overflow != null ? overflow.size() : size;
+        }
+
+        @Override
+        public Set<Entry<K, List<V>>> entrySet() {
+            if (overflow != null) {
+                return overflow.entrySet();
+            }
+            return new AbstractSet<Entry<K, List<V>>>() {
+
+                @Override
+                public Iterator<Entry<K, List<V>>> iterator() {
+                    if (overflow != null) {
+                        return overflow.entrySet().iterator();
+                    }
+                    return new SlotIterator();
+                }
+
+                @Override
+                public int size() {
+                    return Store.this.size();
+                }
+
+                @Override
+                public void clear() {
+                    Store.this.clear();
+                }
+            };
+        }
+
+        private void writeObject(final ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            out.writeInt(size());
+            for (Entry<K, List<V>> e : entrySet()) {
+                out.writeObject(e.getKey());
+                out.writeObject(e.getValue());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            final int count = in.readInt();
+            init(count);
+            for (int i = 0; i < count; i++) {
+                put((K) in.readObject(), (List<V>) in.readObject());
+            }
+        }
+
+        /**
+         * Iterator over the occupied slots.
+         *
+         * <p>
+         * Iteration starts right after an empty slot. Since probe runs never span an empty slot, backward-shift deletion
+         * only ever moves a not yet visited entry into the slot being removed, which is then visited again.
+         * </p>
+         */
+        private final class SlotIterator implements Iterator<Entry<K, List<V>>> {
+
+            private final int length = keys.length;
+            private final int start;
+            private int offset;
+            private int current = -1;
+            private int expectedModCount = modCount;
+
+            private SlotIterator() {
+                int empty = 0;
+                while (keys[empty] != null) {
+                    empty++;
+                }
+                start = empty + 1;
+                advance();
+            }
+
+            private int index(final int at) {
+                return (start + at) & (length - 1);
+            }
+
+            private void advance() {
+                while (offset < length && keys[index(offset)] == null) {
+                    offset++;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return offset < length;
+            }
+
+            @Override
+            public Entry<K, List<V>> next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (offset >= length) {
+                    throw new NoSuchElementException();
+                }
+                current = offset++;
+                advance();
+                return new SlotEntry(index(current));
+            }
+
+            @Override
+            public void remove() {
+                if (current < 0) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                delete(index(current));
+                // an entry shifted into the removed slot has not been returned yet
+                offset = current;
+                advance();
+                current = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Entry view of a slot.
+         */
+        private final class SlotEntry implements Map.Entry<K, List<V>> {
+
+            private final Object key;
+            private final int slot;
+
+            private SlotEntry(final int slot) {
+                this.key = keys[slot];
+                this.slot = slot;
+            }
+
+            @Override
+            public K getKey() {
+                return unmask(key);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<V> getValue() {
+                return keys != null && keys[slot] == key ? (List<V>) values[slot] : get(getKey());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<V> setValue(final List<V> value) {
+                if (keys != null && keys[slot] == key) {
+                    final List<V> previous = (List<V>) values[slot];
+                    values[slot] = value;
+                    return previous;
+                }
+                return put(getKey(), value);
+            }
+
+            @Override
+            public boolean equals(final Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return false;
+                }
+                final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                final Object k = getKey();
+                final Object v = getValue();
+                return (k == null ? e.getKey() == null : k.equals(e.getKey()))
+                        && (v == null ? e.getValue() == null : v.equals(e.getValue()));
+            }
+
+            @Override
+            public int hashCode() {
+                final Object k = getKey();
+                final Object v = getValue();
+                return (k == null ? 0 : k.hashCode()) ^ (v == null ? 0 : v.hashCode());
+            }
+
+            @Override
+            public String toString() {
+                return getKey() + "=" + getValue();
+            }
+        }
+    }
+}
@@ -76,6 +76,16 @@ import java.lang.reflect.Type;
  */
 public class GenericEntity<T> {
 
+    /**
+     * Types resolved for the subclasses of {@code GenericEntity}, one per subclass.
+     */
+    private static final ClassValue<Type> RESOLVED = new ClassValue<Type>() {
+        @Override
+        protected Type computeValue(final Class<?> type) {
+            return GenericType.getTypeArgument(type, GenericEntity.class);
+        }
+    };
+
     private final Class<?> rawType;
     private final Type type;
     private final T entity;
@@ -92,7 +102,7 @@ public class GenericEntity<T> {
             throw new IllegalArgumentException("The entity must not be null");
         }
         this.entity = entity;
-        this.type = GenericType.getTypeArgument(getClass(), GenericEntity.class);
+        this.type = RESOLVED.get(getClass());
         this.rawType = entity.getClass();
     }
 
@@ -21,8 +21,9 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Stack;
+import java.util.Deque;
 
 /**
  * Represents a generic message entity type {@code T}.
@@ -74,6 +75,16 @@ import java.util.Stack;
  */
 public class GenericType<T> {
 
+    /**
+     * Generic types resolved for the subclasses of {@code GenericType}, one per subclass.
+     */
+    private static final ClassValue<GenericType<?>> RESOLVED = new ClassValue<GenericType<?>>() {
+        @Override
+        protected GenericType<?> computeValue(final Class<?> type) {
+            return new GenericType<Object>(getTypeArgument(type, GenericType.class));
+        }
+    };
+
     /**
      * Type represented by the generic type instance.
      */
@@ -111,9 +122,10 @@ public class GenericType<T> {
      * @throws IllegalArgumentException in case the generic type parameter value is not provided by any of the subclasses.
      */
     protected GenericType() {
-        // Get the type parameter of GenericType<T> (aka the T value)
-        type = getTypeArgument(getClass(), GenericType.class);
-        rawType = getClass(type);
+        // Get the type parameter of GenericType<T> (aka the T value), resolved once per subclass
+        final GenericType<?> resolved = RESOLVED.get(getClass());
+        type = resolved.type;
+        rawType = resolved.rawType;
     }
 
     /**
@@ -198,7 +210,7 @@ public class GenericType<T> {
      */
     static Type getTypeArgument(final Class<?> clazz, final Class<?> baseClass) {
         // collect superclasses
-        Stack<Type> superclasses = new Stack<Type>();
+        Deque<Type> superclasses = new ArrayDeque<Type>();
         Type currentType;
         Class<?> currentClass = clazz;
         do {
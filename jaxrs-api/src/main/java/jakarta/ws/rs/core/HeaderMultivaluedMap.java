@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link MultivaluedMap} of HTTP headers with case-insensitive header names.
+ *
+ * <p>
+ * Header names are hashed and compared ignoring the case of ASCII letters without allocating lower or upper case
+ * copies of the names, so {@code getFirst("content-type")} finds a value added under {@code "Content-Type"}. Names are
+ * compared by reference first, which makes lookups using the interned {@link HttpHeaders} name constants a reference
+ * comparison. The map keeps the insertion order of the header names and the spelling of a name as it was first added,
+ * which makes it suitable for writing headers to the wire.
+ * </p>
+ * <p>
+ * Like {@link #equals(Object) equality}, the {@link #hashCode() hash code} of the map ignores the case of the header
+ * names, so header maps differing only in the case of the names are equal and have equal hash codes. Names colliding
+ * in their hash codes share a bucket which is searched linearly, so the map is not meant to hold an unbounded number
+ * of untrusted header names; containers are expected to limit the number of request headers.
+ * </p>
+ * <p>
+ * The implementation does not permit {@code null} header names. By default it permits {@code null} values, but ignores
+ * them, see {@link AbstractMultivaluedMap}. The implementation is not synchronized.
+ * </p>
+ *
+ * @param <V> the type of header values.
+ * @since 3.0
+ */
+public class HeaderMultivaluedMap<V> extends AbstractMultivaluedMap<String, V> implements Serializable {
+
+    private static final long serialVersionUID = -4137297893641278826L;
+
+    /**
+     * Constructs an empty header map with the default initial capacity ({@code 16}).
+     */
+    public HeaderMultivaluedMap() {
+        super(new Store<V>(16));
+    }
+
+    /**
+     * Constructs an empty header map with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     */
+    public HeaderMultivaluedMap(final int initialCapacity) {
+        super(new Store<V>(initialCapacity));
+    }
+
+    /**
+     * Constructs a new header map with the same mappings as the specified {@link MultivaluedMap}. The {@link List}
+     * instances holding the values of each header are created anew instead of being reused. Header names differing only
+     * in case are merged.
+     *
+     * @param map the multivalued map whose mappings are to be placed in this header map.
+     * @throws NullPointerException if the specified map or any of its keys is {@code null}.
+     */
+    public HeaderMultivaluedMap(final MultivaluedMap<String, ? extends V> map) {
+        this(Math.max(16, map.size() * 2));
+        for (Entry<String, ? extends List<? extends V>> e : map.entrySet()) {
+            getValues(e.getKey()).addAll(e.getValue());
+        }
+    }
+
+    /**
+     * Create an empty case-insensitive store, used for frozen copies of header maps.
+     */
+    static <V> Map<String, List<V>> newStore(final int initialCapacity) {
+        return new Store<V>(initialCapacity);
+    }
+
+    /**
+     * Compute the hash code of a header name ignoring the case of ASCII letters.
+     */
+    static int hash(final String name) {
+        int h = 0;
+        for (int i = 0, length = name.length(); i < length; i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Compare two header names ignoring the case of ASCII letters.
+     */
+    static boolean equalNames(final String first, final String second) {
+        if (first == second) {
+            return true;
+        }
+        final int length = first.length();
+        if (length != second.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char a = first.charAt(i);
+            final char b = second.charAt(i);
+            if (a != b) {
+                // only ASCII letters differing in the case bit are considered equal
+                final char lower = (char) (a | 0x20);
+                if ((a ^ b) != 0x20 || lower < 'a' || lower > 'z') {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Insertion-ordered hash table keyed by case-insensitive header names.
+     *
+     * @param <V> the type of header values.
+     */
+    private static final class Store<V> extends AbstractMap<String, List<V>> implements Serializable {
+
+        private static final long serialVersionUID = 1845920631730278346L;
+
+        private transient Node<V>[] table;
+        private transient Node<V> head;
+        private transient Node<V> tail;
+        private transient int size;
+        private transient int modCount;
+
+        private Store(final int initialCapacity) {
+            if (initialCapacity < 0) {
+                throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+            }
+            init(initialCapacity);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void init(final int initialCapacity) {
+            int capacity = 4;
+            while (capacity < initialCapacity && capacity < (1 << 30)) {
+                capacity <<= 1;
+            }
+            table = (Node<V>[]) new Node<?>[capacity];
+        }
+
+        private Node<V> find(final Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            final String name = (String) key;
+            final int h = hash(name);
+            for (Node<V> n = table[h & (table.length - 1)]; n != null; n = n.next) {
+                if (n.hash == h && equalNames(n.key, name)) {
+                    return n;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public List<V> get(final Object key) {
+            final Node<V> n = find(key);
+            return n == null ? null : n.value;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return find(key) != null;
+        }
+
+        @Override
+        public List<V> put(final String key, final List<V> value) {
+            if (key == null) {
+                throw new NullPointerException("Header name must not be 'null'.");
+            }
+            final int h = hash(key);
+            final int bucket = h & (table.length - 1);
+            for (Node<V> n = table[bucket]; n != null; n = n.next) {
+                if (n.hash == h && equalNames(n.key, key)) {
+                    final List<V> previous = n.value;
+                    n.value = value;
+                    return previous;
+                }
+            }
+
+            final Node<V> node = new Node<V>(key, h, value, table[bucket]);
+            table[bucket] = node;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.after = node;
+                node.before = tail;
+            }
+            tail = node;
+            size++;
+            modCount++;
+            if (size > table.length - (table.length >> 2)) {
+                resize();
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void resize() {
+            final Node<V>[] resized = (Node<V>[]) new Node<?>[table.length << 1];
+            for (Node<V> n = head; n != null; n = n.after) {
+                final int bucket = n.hash & (resized.length - 1);
+                n.next = resized[bucket];
+                resized[bucket] = n;
+            }
+            table = resized;
+        }
+
+        @Override
+        public List<V> remove(final Object key) {
+            final Node<V> n = find(key);
+            if (n == null) {
+                return null;
+            }
+            unlink(n);
+            return n.value;
+        }
+
+        private void unlink(final Node<V> node) {
+            final int bucket = node.hash & (table.length - 1);
+            Node<V> previous = null;
+            for (Node<V> n = table[bucket]; n != null; previous = n, n = n.next) {
+                if (n == node) {
+                    if (previous == null) {
+                        table[bucket] = n.next;
+                    } else {
+                        previous.next = n.next;
+                    }
+                    break;
+                }
+            }
+            if (node.before == null) {
+                head = node.after;
+            } else {
+                node.before.after = node.after;
+            }
+            if (node.after == null) {
+                tail = node.before;
+            } else {
+                node.after.before = node.before;
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public void clear() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = null;
+            }
+            head = tail = null;
+            size = 0;
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, List<V>>> entrySet() {
+            return new AbstractSet<Entry<String, List<V>>>() {
+
+                @Override
+                public Iterator<Entry<String, List<V>>> iterator() {
+                    return new NodeIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public void clear() {
+                    Store.this.clear();
+                }
+            };
+        }
+
+        private void writeObject(final ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            out.writeInt(size);
+            for (Node<V> n = head; n != null; n = n.after) {
+                out.writeObject(n.key);
+                out.writeObject(n.value);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            final int count = in.readInt();
+            init(count * 2);
+            for (int i = 0; i < count; i++) {
+                put((String) in.readObject(), (List<V>) in.readObject());
+            }
+        }
+
+        /**
+         * Iterator over the entries in insertion order.
+         */
+        private final class NodeIterator implements Iterator<Entry<String, List<V>>> {
+
+            private Node<V> next = head;
+            private Node<V> current;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Entry<String, List<V>> next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                current = next;
+                next = next.after;
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                unlink(current);
+                current = null;
+                expectedModCount = modCount;
+            }
+        }
+    }
+
+    /**
+     * Hash table entry, linked both within its bucket and in insertion order.
+     *
+     * @param <V> the type of header values.
+     */
+    private static final class Node<V> implements Map.Entry<String, List<V>> {
+
+        private final String key;
+        private final int hash;
+        private List<V> value;
+        private Node<V> next;
+        private Node<V> before;
+        private Node<V> after;
+
+        private Node(final String key, final int hash, final List<V> value, final Node<V> next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public List<V> getValue() {
+            return value;
+        }
+
+        @Override
+        public List<V> setValue(final List<V> value) {
+            final List<V> previous = this.value;
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return key.equals(e.getKey()) && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            // case-insensitive like the lookups used by AbstractMap.equals
+            return hash ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
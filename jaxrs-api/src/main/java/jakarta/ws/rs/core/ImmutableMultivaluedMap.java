@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of a {@link MultivaluedMap}.
+ *
+ * <p>
+ * Instances are created using {@link #copyOf(MultivaluedMap)} or {@link MultivaluedMap#freeze()}. Each value list is
+ * copied into a compact read-only list once, so the snapshot can be shared between threads without synchronization and
+ * without defensive copies. Copying a snapshot again returns the very same instance. All mutating operations, including
+ * those of the value lists and collection views, throw {@link UnsupportedOperationException}.
+ * </p>
+ * <p>
+ * The snapshot keeps the iteration order of the copied map. A snapshot of a {@link HeaderMultivaluedMap} keeps its
+ * case-insensitive key lookup. The hash code is computed once and cached.
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map.
+ * @param <V> the type of mapped values.
+ * @since 3.0
+ */
+public final class ImmutableMultivaluedMap<K, V> extends AbstractMultivaluedMap<K, V> {
+
+    private static final long serialVersionUID = -3604928361530867205L;
+
+    private static final ImmutableMultivaluedMap<Object, Object> EMPTY =
+            new ImmutableMultivaluedMap<Object, Object>(Collections.<Object, List<Object>>emptyMap(), false);
+
+    private final boolean caseInsensitive;
+
+    private transient int hash;
+
+    private ImmutableMultivaluedMap(final Map<K, List<V>> store, final boolean caseInsensitive) {
+        super(store);
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    /**
+     * Get an immutable snapshot of the supplied map. If the map is already an {@code ImmutableMultivaluedMap}, it is
+     * returned as is.
+     *
+     * @param <K> the type of keys maintained by the map.
+     * @param <V> the type of mapped values.
+     * @param map the map to be copied.
+     * @return immutable snapshot of the map.
+     * @throws NullPointerException if the supplied map is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> ImmutableMultivaluedMap<K, V> copyOf(final MultivaluedMap<? extends K, ? extends V> map) {
+        if (map instanceof ImmutableMultivaluedMap) {
+            return (ImmutableMultivaluedMap<K, V>) map;
+        }
+        if (map.isEmpty() && !isCaseInsensitive(map)) {
+            return (ImmutableMultivaluedMap<K, V>) EMPTY;
+        }
+        final boolean caseInsensitive = isCaseInsensitive(map);
+        final Map<K, List<V>> store;
+        if (caseInsensitive) {
+            store = (Map<K, List<V>>) (Map<?, ?>) HeaderMultivaluedMap.<V>newStore(map.size() * 2);
+        } else {
+            store = new LinkedHashMap<K, List<V>>(map.size() * 4 / 3 + 1);
+        }
+        for (Map.Entry<? extends K, ? extends List<? extends V>> e : map.entrySet()) {
+            store.put(e.getKey(), freeze(e.getValue()));
+        }
+        return new ImmutableMultivaluedMap<K, V>(Collections.unmodifiableMap(store), caseInsensitive);
+    }
+
+    /**
+     * Check whether the supplied map compares its keys as case-insensitive header names.
+     */
+    static boolean isCaseInsensitive(final Map<?, ?> map) {
+        return map instanceof HeaderMultivaluedMap
+                || map instanceof ImmutableMultivaluedMap && ((ImmutableMultivaluedMap<?, ?>) map).caseInsensitive;
+    }
+
+    /**
+     * Get an empty immutable map.
+     *
+     * @param <K> the type of keys maintained by the map.
+     * @param <V> the type of mapped values.
+     * @return empty immutable map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> ImmutableMultivaluedMap<K, V> empty() {
+        return (ImmutableMultivaluedMap<K, V>) EMPTY;
+    }
+
+    private static <V> List<V> freeze(final List<? extends V> values) {
+        if (values == null) {
+            return null;
+        }
+        switch (values.size()) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return Collections.<V>singletonList(values.get(0));
+            default:
+                return Collections.unmodifiableList(new ValueList<V>(values));
+        }
+    }
+
+    /**
+     * Returns this map.
+     *
+     * @return this map.
+     */
+    @Override
+    public ImmutableMultivaluedMap<K, V> freeze() {
+        return this;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = store.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+}
@@ -17,6 +17,8 @@
 package jakarta.ws.rs.core;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +26,7 @@ import java.util.Map.Entry;
 
 import javax.xml.namespace.QName;
 
+import jakarta.ws.rs.ext.EncodedHeaderValue;
 import jakarta.ws.rs.ext.RuntimeDelegate;
 import jakarta.xml.bind.annotation.XmlAnyAttribute;
 import jakarta.xml.bind.annotation.XmlAttribute;
@@ -49,7 +52,7 @@ import jakarta.xml.bind.annotation.adapters.XmlAdapter;
  * @see jakarta.ws.rs.core.Response#getLink(java.lang.String)
  * @since 2.0
  */
-public abstract class Link {
+public abstract class Link implements EncodedHeaderValue {
 
     /**
      * Title link param from RFC 5988.
@@ -66,6 +69,9 @@ public abstract class Link {
      */
     public static final String TYPE = "type";
 
+    // lazily computed US-ASCII form of the header value
+    private byte[] encodedHeaderValue;
+
     /**
      * Returns the underlying URI associated with this link.
      *
@@ -128,6 +134,25 @@ public abstract class Link {
     @Override
     public abstract String toString();
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The encoded value is computed from {@link #toString()} on the first invocation and reused afterwards, since links
+     * are immutable.
+     * </p>
+     *
+     * @since 3.0
+     */
+    @Override
+    public ByteBuffer getEncodedHeaderValue() {
+        byte[] encoded = encodedHeaderValue;
+        if (encoded == null) {
+            encoded = toString().getBytes(StandardCharsets.US_ASCII);
+            encodedHeaderValue = encoded;
+        }
+        return ByteBuffer.wrap(encoded).asReadOnlyBuffer();
+    }
+
     /**
      * Simple parser to convert link header string representations into a link.
      *
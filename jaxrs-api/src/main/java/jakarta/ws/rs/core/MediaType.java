@@ -16,12 +16,15 @@
 
 package jakarta.ws.rs.core;
 
-import java.util.Collections;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TreeMap;
 
+import jakarta.ws.rs.ext.EncodedHeaderValue;
 import jakarta.ws.rs.ext.RuntimeDelegate;
 
 /**
@@ -33,12 +36,21 @@ import jakarta.ws.rs.ext.RuntimeDelegate;
  * @since 1.0
  */
 @SuppressWarnings("JavaDoc")
-public class MediaType {
+public class MediaType implements EncodedHeaderValue {
+
+    private static final int WILDCARD_TYPE_FLAG = 1;
+    private static final int WILDCARD_SUBTYPE_FLAG = 2;
 
     private final String type;
     private final String subtype;
     private final Map<String, String> parameters;
     private final int hash;
+    // interned lower case forms of type and subtype, comparable by reference
+    private final String canonicalType;
+    private final String canonicalSubtype;
+    private final int wildcardFlags;
+    // lazily computed header value along with the runtime delegate it was computed by, see toString()
+    private HeaderValue headerValue;
 
     /**
      * The media type {@code charset} parameter name.
@@ -162,26 +174,142 @@ public class MediaType {
      */
     public static final MediaType APPLICATION_JSON_PATCH_JSON_TYPE = new MediaType("application", "json-patch+json");
 
+    /**
+     * Shared cache of parsed media types, see {@link MediaTypeCache}.
+     */
+    private static final MediaTypeCache VALUE_CACHE = MediaTypeCache.create();
+
     /**
      * Creates a new instance of {@code MediaType} by parsing the supplied string.
+     * <p>
+     * Strings representing one of the media type constants declared by this class (optionally followed by a
+     * {@code UTF-8} {@value #CHARSET_PARAMETER} parameter) resolve directly to a shared constant instance without being
+     * parsed. Other parsed instances are kept in an approximately bounded cache keyed by the supplied string, so
+     * repeated invocations with the same value may return the same immutable instance. The size of the cache can be
+     * configured using the {@code jakarta.ws.rs.core.MediaType.cacheSize} system property, a value of {@code 0}
+     * disables the cache.
+     * </p>
      *
      * @param type the media type string.
      * @return the newly created MediaType.
      * @throws IllegalArgumentException if the supplied string cannot be parsed or is {@code null}.
      */
     public static MediaType valueOf(final String type) {
-        return RuntimeDelegate.getInstance().createHeaderDelegate(MediaType.class).fromString(type);
+        if (type != null) {
+            final MediaType constant = wellKnown(type);
+            if (constant != null) {
+                return constant;
+            }
+        }
+        return VALUE_CACHE.valueOf(type);
     }
 
-    private static TreeMap<String, String> createParametersMap(final Map<String, String> initialValues) {
-        // Changed in https://github.com/eclipse-ee4j/jaxrs-api/pull/696.
-    	final TreeMap<String, String> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        if (initialValues != null) {
-            for (Map.Entry<String, String> e : initialValues.entrySet()) {
-                map.put(e.getKey().toLowerCase(), e.getValue());
-            }
+    /**
+     * Get the statistics of the cache of parsed media types used by {@link #valueOf(String)}. The maximum size of the
+     * cache applies to the media types parsed by each runtime delegate separately.
+     *
+     * @return snapshot of the cache statistics.
+     * @since 3.0
+     */
+    public static CacheStatistics getCacheStatistics() {
+        return VALUE_CACHE.statistics();
+    }
+
+    /**
+     * Resolve the supplied string to one of the shared media type constants without parsing it. Besides the plain
+     * constants, the most common {@code UTF-8} charset-suffixed forms are recognized as well.
+     *
+     * @param type the media type string, must not be {@code null}.
+     * @return the shared constant or {@code null} if the string does not represent a well-known media type.
+     */
+    private static MediaType wellKnown(final String type) {
+        // string switch compiles to a lookup on the precomputed hash codes of the constant labels
+        switch (type) {
+            case WILDCARD:
+                return WILDCARD_TYPE;
+            case APPLICATION_XML:
+                return APPLICATION_XML_TYPE;
+            case APPLICATION_ATOM_XML:
+                return APPLICATION_ATOM_XML_TYPE;
+            case APPLICATION_XHTML_XML:
+                return APPLICATION_XHTML_XML_TYPE;
+            case APPLICATION_SVG_XML:
+                return APPLICATION_SVG_XML_TYPE;
+            case APPLICATION_JSON:
+                return APPLICATION_JSON_TYPE;
+            case APPLICATION_FORM_URLENCODED:
+                return APPLICATION_FORM_URLENCODED_TYPE;
+            case MULTIPART_FORM_DATA:
+                return MULTIPART_FORM_DATA_TYPE;
+            case APPLICATION_OCTET_STREAM:
+                return APPLICATION_OCTET_STREAM_TYPE;
+            case TEXT_PLAIN:
+                return TEXT_PLAIN_TYPE;
+            case TEXT_XML:
+                return TEXT_XML_TYPE;
+            case TEXT_HTML:
+                return TEXT_HTML_TYPE;
+            case SERVER_SENT_EVENTS:
+                return SERVER_SENT_EVENTS_TYPE;
+            case APPLICATION_JSON_PATCH_JSON:
+                return APPLICATION_JSON_PATCH_JSON_TYPE;
+            case APPLICATION_JSON + ";charset=UTF-8":
+            case APPLICATION_JSON + "; charset=UTF-8":
+                return CharsetConstants.APPLICATION_JSON_UTF_8;
+            case APPLICATION_JSON + ";charset=utf-8":
+            case APPLICATION_JSON + "; charset=utf-8":
+                return CharsetConstants.APPLICATION_JSON_UTF_8_LOWER;
+            case APPLICATION_XML + ";charset=UTF-8":
+            case APPLICATION_XML + "; charset=UTF-8":
+                return CharsetConstants.APPLICATION_XML_UTF_8;
+            case APPLICATION_XML + ";charset=utf-8":
+            case APPLICATION_XML + "; charset=utf-8":
+                return CharsetConstants.APPLICATION_XML_UTF_8_LOWER;
+            case TEXT_PLAIN + ";charset=UTF-8":
+            case TEXT_PLAIN + "; charset=UTF-8":
+                return CharsetConstants.TEXT_PLAIN_UTF_8;
+            case TEXT_PLAIN + ";charset=utf-8":
+            case TEXT_PLAIN + "; charset=utf-8":
+                return CharsetConstants.TEXT_PLAIN_UTF_8_LOWER;
+            case TEXT_HTML + ";charset=UTF-8":
+            case TEXT_HTML + "; charset=UTF-8":
+                return CharsetConstants.TEXT_HTML_UTF_8;
+            case TEXT_HTML + ";charset=utf-8":
+            case TEXT_HTML + "; charset=utf-8":
+                return CharsetConstants.TEXT_HTML_UTF_8_LOWER;
+            case TEXT_XML + ";charset=UTF-8":
+            case TEXT_XML + "; charset=UTF-8":
+                return CharsetConstants.TEXT_XML_UTF_8;
+            case TEXT_XML + ";charset=utf-8":
+            case TEXT_XML + "; charset=utf-8":
+                return CharsetConstants.TEXT_XML_UTF_8_LOWER;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Lazily initialized shared instances of the charset-suffixed well-known media types.
+     */
+    private static final class CharsetConstants {
+
+        private static final String UTF_8 = "UTF-8";
+        private static final String UTF_8_LOWER = "utf-8";
+
+        static final MediaType APPLICATION_JSON_UTF_8 = APPLICATION_JSON_TYPE.withCharset(UTF_8);
+        static final MediaType APPLICATION_JSON_UTF_8_LOWER = APPLICATION_JSON_TYPE.withCharset(UTF_8_LOWER);
+        static final MediaType APPLICATION_XML_UTF_8 = APPLICATION_XML_TYPE.withCharset(UTF_8);
+        static final MediaType APPLICATION_XML_UTF_8_LOWER = APPLICATION_XML_TYPE.withCharset(UTF_8_LOWER);
+        static final MediaType TEXT_PLAIN_UTF_8 = TEXT_PLAIN_TYPE.withCharset(UTF_8);
+        static final MediaType TEXT_PLAIN_UTF_8_LOWER = TEXT_PLAIN_TYPE.withCharset(UTF_8_LOWER);
+        static final MediaType TEXT_HTML_UTF_8 = TEXT_HTML_TYPE.withCharset(UTF_8);
+        static final MediaType TEXT_HTML_UTF_8_LOWER = TEXT_HTML_TYPE.withCharset(UTF_8_LOWER);
+        static final MediaType TEXT_XML_UTF_8 = TEXT_XML_TYPE.withCharset(UTF_8);
+        static final MediaType TEXT_XML_UTF_8_LOWER = TEXT_XML_TYPE.withCharset(UTF_8_LOWER);
+
+        private CharsetConstants() {
+            // prevents instantiation
         }
-        return map;
     }
 
     /**
@@ -192,7 +320,7 @@ public class MediaType {
      * @param parameters a map of media type parameters, {@code null} is the same as an empty map.
      */
     public MediaType(final String type, final String subtype, final Map<String, String> parameters) {
-        this(type, subtype, null, createParametersMap(parameters));
+        this(type, subtype, null, parameters);
     }
 
     /**
@@ -226,21 +354,19 @@ public class MediaType {
         this(MEDIA_TYPE_WILDCARD, MEDIA_TYPE_WILDCARD, null, null);
     }
 
-    private MediaType(final String type, final String subtype, final String charset, Map<String, String> parameterMap) {
+    private MediaType(final String type, final String subtype, final String charset, final Map<String, String> parameterMap) {
 
         this.type = type == null ? MEDIA_TYPE_WILDCARD : type;
         this.subtype = subtype == null ? MEDIA_TYPE_WILDCARD : subtype;
 
-        // Changed in https://github.com/eclipse-ee4j/jaxrs-api/pull/696
-        if (parameterMap == null) {
-            parameterMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        }
+        // Case-insensitive parameter keys changed in https://github.com/eclipse-ee4j/jaxrs-api/pull/696
+        this.parameters = MediaTypeParameters.of(parameterMap, charset);
 
-        if (charset != null && !charset.isEmpty()) {
-            parameterMap.put(CHARSET_PARAMETER, charset);
-        }
-        this.parameters = Collections.unmodifiableMap(parameterMap);
-        this.hash = Objects.hash(this.type.toLowerCase(), this.subtype.toLowerCase(), this.parameters);
+        this.canonicalType = this.type.toLowerCase(Locale.ROOT).intern();
+        this.canonicalSubtype = this.subtype.toLowerCase(Locale.ROOT).intern();
+        this.wildcardFlags = (MEDIA_TYPE_WILDCARD.equals(this.type) ? WILDCARD_TYPE_FLAG : 0)
+                | (MEDIA_TYPE_WILDCARD.equals(this.subtype) ? WILDCARD_SUBTYPE_FLAG : 0);
+        this.hash = Objects.hash(this.canonicalType, this.canonicalSubtype, this.parameters);
     }
 
     /**
@@ -258,7 +384,7 @@ public class MediaType {
      * @return true if the primary type is a wildcard.
      */
     public boolean isWildcardType() {
-        return this.getType().equals(MEDIA_TYPE_WILDCARD);
+        return (wildcardFlags & WILDCARD_TYPE_FLAG) != 0;
     }
 
     /**
@@ -276,7 +402,25 @@ public class MediaType {
      * @return true if the subtype is a wildcard.
      */
     public boolean isWildcardSubtype() {
-        return this.getSubtype().equals(MEDIA_TYPE_WILDCARD);
+        return (wildcardFlags & WILDCARD_SUBTYPE_FLAG) != 0;
+    }
+
+    /**
+     * Get the lower case form of the primary type. Instances with equal canonical types share the same string instance.
+     *
+     * @return interned lower case primary type.
+     */
+    String canonicalType() {
+        return this.canonicalType;
+    }
+
+    /**
+     * Get the lower case form of the subtype. Instances with equal canonical subtypes share the same string instance.
+     *
+     * @return interned lower case subtype.
+     */
+    String canonicalSubtype() {
+        return this.canonicalSubtype;
     }
 
     /**
@@ -299,7 +443,7 @@ public class MediaType {
      * @since 2.0
      */
     public MediaType withCharset(final String charset) {
-        return new MediaType(this.type, this.subtype, charset, createParametersMap(this.parameters));
+        return new MediaType(this.type, this.subtype, charset, this.parameters);
     }
 
     /**
@@ -319,11 +463,11 @@ public class MediaType {
             return false;
         }
 
+        final int wildcards = this.wildcardFlags | other.wildcardFlags;
         return
-            (type.equalsIgnoreCase(other.type) || this.isWildcardType() || other.isWildcardType())
+            (canonicalType == other.canonicalType || (wildcards & WILDCARD_TYPE_FLAG) != 0)
             &&
-            (subtype.equalsIgnoreCase(other.subtype) || this.isWildcardSubtype()
-             || other.isWildcardSubtype());
+            (canonicalSubtype == other.canonicalSubtype || (wildcards & WILDCARD_SUBTYPE_FLAG) != 0);
     }
 
     /**
@@ -352,8 +496,8 @@ public class MediaType {
         }
 
         MediaType other = (MediaType) obj;
-        return (this.type.equalsIgnoreCase(other.type)
-                && this.subtype.equalsIgnoreCase(other.subtype)
+        return (this.canonicalType == other.canonicalType
+                && this.canonicalSubtype == other.canonicalSubtype
                 && this.parameters.equals(other.parameters));
     }
 
@@ -376,12 +520,59 @@ public class MediaType {
     }
 
     /**
-     * Convert the media type to a string suitable for use as the value of a corresponding HTTP header.
+     * Convert the media type to a string suitable for use as the value of a corresponding HTTP header. The string is
+     * computed on the first invocation and reused for as long as the current runtime delegate stays the same.
      *
      * @return a string version of the media type.
      */
     @Override
     public String toString() {
-        return RuntimeDelegate.getInstance().createHeaderDelegate(MediaType.class).toString(this);
+        return headerValue(false).value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The encoded value is computed from {@link #toString()} on the first invocation and reused for as long as the
+     * current runtime delegate stays the same.
+     * </p>
+     *
+     * @since 3.0
+     */
+    @Override
+    public ByteBuffer getEncodedHeaderValue() {
+        return ByteBuffer.wrap(headerValue(true).encoded).asReadOnlyBuffer();
+    }
+
+    private HeaderValue headerValue(final boolean encoded) {
+        // racy single-check idiom; the holder is immutable so concurrent computations yield equal values
+        final RuntimeDelegate delegate = RuntimeDelegate.getInstance();
+        HeaderValue header = headerValue;
+        if (header == null || header.delegate.get() != delegate) {
+            header = new HeaderValue(delegate, delegate.getHeaderDelegate(MediaType.class).toString(this), encoded);
+            headerValue = header;
+        } else if (encoded && header.encoded == null) {
+            header = new HeaderValue(delegate, header.value, true);
+            headerValue = header;
+        }
+        return header;
+    }
+
+    /**
+     * Header value of a media type computed by a runtime delegate. The delegate is referenced weakly, so that shared
+     * media type constants do not retain the delegate of an undeployed application.
+     */
+    private static final class HeaderValue {
+
+        private final WeakReference<RuntimeDelegate> delegate;
+        private final String value;
+        // US-ASCII form of the value, computed on demand
+        private final byte[] encoded;
+
+        private HeaderValue(final RuntimeDelegate delegate, final String value, final boolean encoded) {
+            this.delegate = new WeakReference<RuntimeDelegate>(delegate);
+            this.value = value;
+            this.encoded = encoded ? value.getBytes(StandardCharsets.US_ASCII) : null;
+        }
     }
 }
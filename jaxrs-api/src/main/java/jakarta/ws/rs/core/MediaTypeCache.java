@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.ws.rs.ext.RuntimeDelegate;
+import jakarta.ws.rs.internal.WeakIdentityMap;
+
+/**
+ * Bounded, concurrent interning cache of {@link MediaType} instances keyed by the raw header string they were parsed
+ * from.
+ * <p>
+ * Cached instances are shared between all callers, which is safe since {@code MediaType} instances are immutable. The
+ * entries are kept separately for each {@link RuntimeDelegate} that parsed them, so that servers running deployments
+ * with their own {@link RuntimeDelegate#setInstance(ClassLoader, RuntimeDelegate) scoped delegates} do not evict each
+ * other's entries. The delegates are referenced weakly. The maximum number of entries per delegate can be configured
+ * using the {@value #CACHE_SIZE_PROPERTY} system property, a value of {@code 0} disables the cache.
+ * </p>
+ * <p>
+ * The entries of a delegate are cleared when their number reaches the maximum, which keeps a stream of unique header
+ * values from repeatedly evicting the same entries. The bound is approximate: the size check and the insertion are not
+ * atomic, so concurrent misses may briefly exceed it by the number of threads inserting.
+ * </p>
+ *
+ * @since 3.0
+ */
+final class MediaTypeCache {
+
+    /**
+     * Name of the system property defining the maximum number of cached media types.
+     */
+    static final String CACHE_SIZE_PROPERTY = "jakarta.ws.rs.core.MediaType.cacheSize";
+
+    /**
+     * Default maximum number of cached media types.
+     */
+    static final int DEFAULT_CACHE_SIZE = 256;
+
+    /**
+     * Header values longer than this are parsed but never cached.
+     */
+    static final int MAX_KEY_LENGTH = 256;
+
+    private static final Logger LOGGER = Logger.getLogger(MediaTypeCache.class.getName());
+
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final WeakIdentityMap<RuntimeDelegate, ConcurrentHashMap<String, MediaType>> segments =
+            new WeakIdentityMap<RuntimeDelegate, ConcurrentHashMap<String, MediaType>>();
+
+    /**
+     * Create a new cache holding at most {@code maxSize} entries per runtime delegate.
+     *
+     * @param maxSize maximum number of cached entries, {@code 0} or less disables the cache.
+     */
+    MediaTypeCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Create a new cache sized according to the {@value #CACHE_SIZE_PROPERTY} system property.
+     *
+     * @return new media type cache.
+     */
+    static MediaTypeCache create() {
+        return new MediaTypeCache(configuredSize());
+    }
+
+    private static int configuredSize() {
+        try {
+            final Integer size;
+            if (System.getSecurityManager() == null) {
+                size = Integer.getInteger(CACHE_SIZE_PROPERTY);
+            } else {
+                size = AccessController.doPrivileged(
+                        (PrivilegedAction<Integer>) () -> Integer.getInteger(CACHE_SIZE_PROPERTY));
+            }
+            return size == null ? DEFAULT_CACHE_SIZE : size;
+        } catch (SecurityException ex) {
+            LOGGER.log(Level.FINER, "Unable to read the " + CACHE_SIZE_PROPERTY + " system property.", ex);
+            return DEFAULT_CACHE_SIZE;
+        }
+    }
+
+    /**
+     * Get the {@code MediaType} for the supplied header value, parsing it using the current {@link RuntimeDelegate} if
+     * it is not cached yet.
+     *
+     * @param value the media type string.
+     * @return the shared media type instance.
+     * @throws IllegalArgumentException if the supplied string cannot be parsed or is {@code null}.
+     */
+    MediaType valueOf(final String value) {
+        final RuntimeDelegate delegate = RuntimeDelegate.getInstance();
+        if (maxSize <= 0 || value == null || value.length() > MAX_KEY_LENGTH) {
+            return parse(delegate, value);
+        }
+
+        final ConcurrentHashMap<String, MediaType> entries =
+                segments.computeIfAbsent(delegate, d -> new ConcurrentHashMap<String, MediaType>());
+        MediaType result = entries.get(value);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+
+        misses.increment();
+        result = parse(delegate, value);
+        if (entries.size() >= maxSize) {
+            evictAll(entries);
+        }
+        final MediaType previous = entries.putIfAbsent(value, result);
+        return previous == null ? result : previous;
+    }
+
+    private static MediaType parse(final RuntimeDelegate delegate, final String value) {
+        return delegate.getHeaderDelegate(MediaType.class).fromString(value);
+    }
+
+    private void evictAll(final ConcurrentHashMap<String, MediaType> entries) {
+        final int size = entries.size();
+        entries.clear();
+        evictions.add(size);
+    }
+
+    /**
+     * Get the maximum number of cached entries per runtime delegate.
+     *
+     * @return maximum cache size, {@code 0} or less if the cache is disabled.
+     */
+    int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Get the current number of cached entries of all runtime delegates.
+     *
+     * @return number of cached entries.
+     */
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, MediaType> entries : segments.values()) {
+            size += entries.size();
+        }
+        return size;
+    }
+
+    /**
+     * Get the number of lookups served from the cache.
+     *
+     * @return cache hit count.
+     */
+    long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that required parsing the header value.
+     *
+     * @return cache miss count.
+     */
+    long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of entries removed to keep the cache within its bounds.
+     *
+     * @return cache eviction count.
+     */
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Take a snapshot of the cache statistics.
+     *
+     * @return cache statistics.
+     */
+    CacheStatistics statistics() {
+        return new CacheStatistics(hitCount(), missCount(), evictionCount(), size(), maxSize);
+    }
+}
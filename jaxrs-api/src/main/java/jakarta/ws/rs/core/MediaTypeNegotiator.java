@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reusable content negotiation engine selecting the best media type produced by a resource for a parsed
+ * {@code Accept} header.
+ * <p>
+ * A negotiator is compiled once from the media types produced by a resource method (e.g. the values of its
+ * {@link jakarta.ws.rs.Produces &#64;Produces} annotation) and indexes them by type and subtype. Selecting a media type
+ * for a list of acceptable media types, as returned by {@link HttpHeaders#getAcceptableMediaTypes()}, then only looks up
+ * the produced media types matched by each media range instead of comparing every pair.
+ * </p>
+ * <p>
+ * The quality of a produced media type is taken from the {@code q} parameter of the most specific media range matching
+ * it; a quality of {@code 0} makes the media type unacceptable. The media type with the highest quality is selected,
+ * ties are resolved in favor of the more specific media range and then by the order of the produced media types. Media
+ * type parameters other than {@code q} are ignored. Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @see HttpHeaders#getAcceptableMediaTypes()
+ * @since 3.0
+ */
+public final class MediaTypeNegotiator {
+
+    /**
+     * Name of the media range quality parameter.
+     */
+    private static final String QUALITY_PARAMETER = "q";
+
+    private static final int WILDCARD_SPECIFICITY = 0;
+    private static final int TYPE_SPECIFICITY = 1;
+    private static final int SUBTYPE_SPECIFICITY = 2;
+
+    private static final int[] NONE = new int[0];
+
+    private final MediaType[] produced;
+    private final List<MediaType> producedList;
+    // produced indexes keyed by canonical (interned) type
+    private final Map<String, TypeIndex> byType;
+    // indexes of produced media types with a wildcard type or subtype
+    private final int[] wildcards;
+
+    /**
+     * Compile a new negotiator for the supplied produced media types.
+     *
+     * @param producedTypes media types produced by a resource, in the order of preference. An empty list is equivalent
+     * to a list containing only {@link MediaType#WILDCARD_TYPE}.
+     * @throws NullPointerException if the list or any of its elements is {@code null}.
+     */
+    public MediaTypeNegotiator(final List<MediaType> producedTypes) {
+        this.produced = producedTypes.isEmpty()
+                ? new MediaType[] {MediaType.WILDCARD_TYPE}
+                : producedTypes.toArray(new MediaType[producedTypes.size()]);
+        this.producedList = Collections.unmodifiableList(Arrays.asList(produced));
+
+        final Map<String, List<Integer>> types = new HashMap<>();
+        final Map<String, Map<String, List<Integer>>> subtypes = new HashMap<>();
+        final List<Integer> wildcardList = new ArrayList<>();
+        for (int i = 0; i < produced.length; i++) {
+            final MediaType p = produced[i];
+            if (p.isWildcardType() || p.isWildcardSubtype()) {
+                wildcardList.add(i);
+            }
+            if (!p.isWildcardType()) {
+                types.computeIfAbsent(p.canonicalType(), k -> new ArrayList<>()).add(i);
+                if (!p.isWildcardSubtype()) {
+                    subtypes.computeIfAbsent(p.canonicalType(), k -> new HashMap<>())
+                            .computeIfAbsent(p.canonicalSubtype(), k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        this.byType = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> e : types.entrySet()) {
+            final Map<String, int[]> bySubtype = new HashMap<>();
+            final Map<String, List<Integer>> concrete = subtypes.get(e.getKey());
+            if (concrete != null) {
+                for (Map.Entry<String, List<Integer>> s : concrete.entrySet()) {
+                    bySubtype.put(s.getKey(), toArray(s.getValue()));
+                }
+            }
+            byType.put(e.getKey(), new TypeIndex(toArray(e.getValue()), bySubtype));
+        }
+        this.wildcards = toArray(wildcardList);
+    }
+
+    private static int[] toArray(final List<Integer> indexes) {
+        final int[] result = new int[indexes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = indexes.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Get the media types this negotiator selects from.
+     *
+     * @return immutable list of the produced media types.
+     */
+    public List<MediaType> getProducedTypes() {
+        return producedList;
+    }
+
+    /**
+     * Select the best produced media type for the supplied acceptable media types.
+     * <p>
+     * If the selected produced media type contains a wildcard and the matching media range is more specific, a media
+     * type with the type and subtype of the media range is returned instead.
+     * </p>
+     *
+     * @param acceptable acceptable media types, e.g. as returned by {@link HttpHeaders#getAcceptableMediaTypes()}. A
+     * {@code null} or empty list is equivalent to a list containing only {@link MediaType#WILDCARD_TYPE}.
+     * @return the best matching media type or {@code null} if none of the produced media types is acceptable.
+     */
+    public MediaType select(final List<MediaType> acceptable) {
+        if (acceptable == null || acceptable.isEmpty()) {
+            return produced[0];
+        }
+
+        final int n = produced.length;
+        final double[] quality = new double[n];
+        final int[] specificity = new int[n];
+        final int[] range = new int[n];
+        match(acceptable, quality, specificity, range);
+
+        int best = -1;
+        for (int i = 0; i < n; i++) {
+            if (specificity[i] < 0 || quality[i] <= 0) {
+                continue;
+            }
+            if (best < 0 || quality[i] > quality[best]
+                    || (quality[i] == quality[best] && specificity[i] > specificity[best])) {
+                best = i;
+            }
+        }
+        if (best < 0) {
+            return null;
+        }
+
+        final MediaType selected = produced[best];
+        final MediaType matched = acceptable.get(range[best]);
+        if ((selected.isWildcardType() && !matched.isWildcardType())
+                || (selected.isWildcardSubtype() && !matched.isWildcardSubtype())) {
+            return new MediaType(matched.getType(), matched.getSubtype());
+        }
+        return selected;
+    }
+
+    /**
+     * Match the acceptable media types against the produced media types. For every produced media type, the quality and
+     * specificity of the most specific matching media range and the index of that range are stored at the index of the
+     * produced media type; produced media types not matched by any media range get a specificity of {@code -1}.
+     *
+     * @param acceptable non-empty list of acceptable media types.
+     * @param quality quality of the matching media range per produced media type.
+     * @param specificity specificity of the matching media range per produced media type.
+     * @param range index of the matching media range per produced media type.
+     */
+    void match(final List<MediaType> acceptable, final double[] quality, final int[] specificity, final int[] range) {
+        final int n = produced.length;
+        Arrays.fill(specificity, -1);
+
+        for (int r = 0, m = acceptable.size(); r < m; r++) {
+            final MediaType a = acceptable.get(r);
+            final double q = quality(a);
+            if (a.isWildcardType()) {
+                if (a.isWildcardSubtype()) {
+                    for (int i = 0; i < n; i++) {
+                        assign(quality, specificity, range, i, q, WILDCARD_SPECIFICITY, r);
+                    }
+                } else {
+                    // unusual "*/subtype" range, check every produced media type
+                    for (int i = 0; i < n; i++) {
+                        if (a.isCompatible(produced[i])) {
+                            assign(quality, specificity, range, i, q, TYPE_SPECIFICITY, r);
+                        }
+                    }
+                }
+                continue;
+            }
+
+            final int level = a.isWildcardSubtype() ? TYPE_SPECIFICITY : SUBTYPE_SPECIFICITY;
+            final TypeIndex index = byType.get(a.canonicalType());
+            if (index != null) {
+                final int[] matches = level == TYPE_SPECIFICITY ? index.all : index.bySubtype(a.canonicalSubtype());
+                for (int i : matches) {
+                    assign(quality, specificity, range, i, q, level, r);
+                }
+            }
+            for (int i : wildcards) {
+                if (a.isCompatible(produced[i])) {
+                    assign(quality, specificity, range, i, q, level, r);
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the quality of a produced media type unless a more specific (or an earlier equally specific) media range
+     * has already matched it.
+     */
+    private static void assign(final double[] quality, final int[] specificity, final int[] range,
+            final int index, final double q, final int level, final int rangeIndex) {
+        if (level > specificity[index]) {
+            quality[index] = q;
+            specificity[index] = level;
+            range[index] = rangeIndex;
+        }
+    }
+
+    /**
+     * Get the quality of a media range. A missing or malformed {@code q} parameter is treated as {@code 1}.
+     */
+    private static double quality(final MediaType mediaRange) {
+        return parseQuality(mediaRange.getParameters().get(QUALITY_PARAMETER));
+    }
+
+    /**
+     * Parse a quality value according to the HTTP {@code qvalue} grammar, i.e. {@code 0} or {@code 1} optionally followed
+     * by a dot and up to three digits, with values above {@code 1} not allowed.
+     *
+     * @param q quality value, may be {@code null}.
+     * @return parsed quality, {@code 1} if the value is {@code null} or malformed.
+     */
+    static double parseQuality(final String q) {
+        if (q == null) {
+            return 1;
+        }
+        final String value = q.trim();
+        final int length = value.length();
+        if (length == 0 || length > 5) {
+            return 1;
+        }
+        final char first = value.charAt(0);
+        if (first != '0' && first != '1') {
+            return 1;
+        }
+        if (length == 1) {
+            return first - '0';
+        }
+        if (value.charAt(1) != '.') {
+            return 1;
+        }
+        int thousandths = 0;
+        for (int i = 2; i < 5; i++) {
+            final int digit = i < length ? value.charAt(i) - '0' : 0;
+            if (digit < 0 || digit > 9) {
+                return 1;
+            }
+            thousandths = thousandths * 10 + digit;
+        }
+        // values above 1 are malformed and treated as 1 as well
+        return first == '1' ? 1 : thousandths / 1000.0;
+    }
+
+    /**
+     * Produced media type indexes sharing the same type.
+     */
+    private static final class TypeIndex {
+
+        private final int[] all;
+        private final Map<String, int[]> bySubtype;
+
+        private TypeIndex(final int[] all, final Map<String, int[]> bySubtype) {
+            this.all = all;
+            this.bySubtype = bySubtype;
+        }
+
+        private int[] bySubtype(final String subtype) {
+            final int[] matches = bySubtype.get(subtype);
+            return matches == null ? NONE : matches;
+        }
+    }
+}
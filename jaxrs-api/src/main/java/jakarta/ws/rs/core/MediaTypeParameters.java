@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable, case-insensitive map of media type parameters backed by flat key and value arrays.
+ * <p>
+ * Keys are stored in lower case and iterated in case-insensitive order, which makes the map behave like the
+ * {@link java.util.TreeMap} with {@link String#CASE_INSENSITIVE_ORDER} it replaces, including its {@code equals} and
+ * {@code hashCode} values. Parameterless media types share a single empty instance.
+ * </p>
+ *
+ * @since 3.0
+ */
+final class MediaTypeParameters extends AbstractMap<String, String> {
+
+    private static final String[] NO_STRINGS = new String[0];
+
+    /**
+     * Shared empty parameter map.
+     */
+    static final MediaTypeParameters EMPTY = new MediaTypeParameters(NO_STRINGS, NO_STRINGS);
+
+    private final String[] keys;
+    private final String[] values;
+    private int hash;
+
+    private MediaTypeParameters(final String[] keys, final String[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Create an immutable parameter map holding the supplied parameters and the optional {@code charset} parameter.
+     *
+     * @param parameters initial parameters, may be {@code null}.
+     * @param charset value of the {@value MediaType#CHARSET_PARAMETER} parameter. If {@code null} or empty, the
+     * parameter is taken over from the initial parameters, if present.
+     * @return immutable parameter map.
+     */
+    static MediaTypeParameters of(final Map<String, String> parameters, final String charset) {
+        final boolean hasCharset = charset != null && !charset.isEmpty();
+        if (parameters instanceof MediaTypeParameters && !hasCharset) {
+            return (MediaTypeParameters) parameters;
+        }
+
+        final int size = (parameters == null ? 0 : parameters.size()) + (hasCharset ? 1 : 0);
+        if (size == 0) {
+            return EMPTY;
+        }
+        if (size == 1 && hasCharset) {
+            return new MediaTypeParameters(new String[] {MediaType.CHARSET_PARAMETER}, new String[] {charset});
+        }
+
+        final String[] keys = new String[size];
+        final String[] values = new String[size];
+        int count = 0;
+        if (parameters != null) {
+            for (Map.Entry<String, String> e : parameters.entrySet()) {
+                count = put(keys, values, count, e.getKey().toLowerCase(), e.getValue());
+            }
+        }
+        if (hasCharset) {
+            count = put(keys, values, count, MediaType.CHARSET_PARAMETER, charset);
+        }
+
+        if (count < size) {
+            return new MediaTypeParameters(Arrays.copyOf(keys, count), Arrays.copyOf(values, count));
+        }
+        return new MediaTypeParameters(keys, values);
+    }
+
+    /**
+     * Insert a lower case key into the sorted key array, replacing the value of an already present key.
+     *
+     * @return the new number of used array slots.
+     */
+    private static int put(final String[] keys, final String[] values, final int count, final String key, final String value) {
+        int i = count;
+        while (i > 0) {
+            final int cmp = String.CASE_INSENSITIVE_ORDER.compare(keys[i - 1], key);
+            if (cmp == 0) {
+                values[i - 1] = value;
+                return count;
+            }
+            if (cmp < 0) {
+                break;
+            }
+            i--;
+        }
+        System.arraycopy(keys, i, keys, i + 1, count - i);
+        System.arraycopy(values, i, values, i + 1, count - i);
+        keys[i] = key;
+        values[i] = value;
+        return count + 1;
+    }
+
+    private int indexOf(final Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        final String name = (String) key;
+        switch (keys.length) {
+            case 0:
+                return -1;
+            case 1:
+                return keys[0].equalsIgnoreCase(name) ? 0 : -1;
+            default:
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i].equalsIgnoreCase(name)) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+
+    @Override
+    public String get(final Object key) {
+        final int i = indexOf(key);
+        return i < 0 ? null : values[i];
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (next >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        final int i = next++;
+                        return new SimpleImmutableEntry<>(keys[i], values[i]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof MediaTypeParameters) {
+            final MediaTypeParameters other = (MediaTypeParameters) o;
+            return Arrays.equals(keys, other.keys) && Arrays.equals(values, other.values);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && keys.length > 0) {
+            hash = h = super.hashCode();
+        }
+        return h;
+    }
+}
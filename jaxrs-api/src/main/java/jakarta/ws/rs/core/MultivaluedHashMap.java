@@ -17,7 +17,6 @@
 package jakarta.ws.rs.core;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.List;
@@ -143,7 +142,7 @@ public class MultivaluedHashMap<K, V> extends AbstractMultivaluedMap<K, V> imple
      */
     private <T extends K, U extends V> void putAll(final MultivaluedMap<T, U> map) {
         for (Entry<T, List<U>> e : map.entrySet()) {
-            store.put(e.getKey(), new ArrayList<V>(e.getValue()));
+            store.put(e.getKey(), new ValueList<V>(e.getValue()));
         }
     }
 
@@ -98,4 +98,16 @@ public interface MultivaluedMap<K, V> extends Map<K, List<V>> {
      */
     boolean equalsIgnoreValueOrder(MultivaluedMap<K, V> otherMap);
 
+    /**
+     * Get an immutable snapshot of this map. The snapshot is not affected by subsequent modifications of this map and can
+     * be shared between threads. Freezing a map that is already immutable returns the same instance.
+     *
+     * @return immutable snapshot of this map.
+     * @see ImmutableMultivaluedMap#copyOf(MultivaluedMap)
+     * @since 3.0
+     */
+    default MultivaluedMap<K, V> freeze() {
+        return ImmutableMultivaluedMap.copyOf(this);
+    }
+
 }
@@ -19,7 +19,6 @@ package jakarta.ws.rs.core;
 import java.util.Date;
 
 import jakarta.ws.rs.ext.RuntimeDelegate;
-import jakarta.ws.rs.ext.RuntimeDelegate.HeaderDelegate;
 
 /**
  * Used to create a new HTTP cookie, transferred in a response.
@@ -36,17 +35,13 @@ public class NewCookie extends Cookie {
      */
     public static final int DEFAULT_MAX_AGE = -1;
 
-    /**
-     * @deprecated This field will be removed in a future version. See https://github.com/eclipse-ee4j/jaxrs-api/issues/607
-     */
-    @Deprecated
-    private static final HeaderDelegate<NewCookie> delegate = RuntimeDelegate.getInstance().createHeaderDelegate(NewCookie.class);
-
     private final String comment;
     private final int maxAge;
     private final Date expiry;
     private final boolean secure;
     private final boolean httpOnly;
+    // lazily computed header value, see toString()
+    private String headerValue;
 
     /**
      * Create a new instance.
@@ -219,11 +214,11 @@ public class NewCookie extends Cookie {
      * @return the newly created {@code NewCookie}.
      * @throws IllegalArgumentException if the supplied string cannot be parsed or is {@code null}.
      * @deprecated This method will be removed in a future version. Please use
-     * RuntimeDelegate.getInstance().createHeaderDelegate(NewCookie.class).fromString(value) instead.
+     * RuntimeDelegate.getInstance().getHeaderDelegate(NewCookie.class).fromString(value) instead.
      */
     @Deprecated
     public static NewCookie valueOf(final String value) {
-        return delegate.fromString(value);
+        return RuntimeDelegate.getInstance().getHeaderDelegate(NewCookie.class).fromString(value);
     }
 
     /**
@@ -305,13 +300,19 @@ public class NewCookie extends Cookie {
      *
      * @return a stringified cookie.
      * @deprecated The format of the toString() method is subject to change in a future version. Please use
-     * RuntimeDelegate.getInstance().createHeaderDelegate(NewCookie.class).toString(value) instead if you rely on the format
+     * RuntimeDelegate.getInstance().getHeaderDelegate(NewCookie.class).toString(value) instead if you rely on the format
      * of this method.
      */
     @Override
     @Deprecated
     public String toString() {
-        return delegate.toString(this);
+        // racy single-check idiom; the instance is immutable so concurrent computations yield equal strings
+        String header = headerValue;
+        if (header == null) {
+            header = RuntimeDelegate.getInstance().getHeaderDelegate(NewCookie.class).toString(this);
+            headerValue = header;
+        }
+        return header;
     }
 
     /**
@@ -495,6 +495,23 @@ public abstract class Response implements AutoCloseable {
         return b;
     }
 
+    /**
+     * Create a new ResponseBuilder by performing a shallow copy of an existing {@link ResponseTemplate}.
+     * <p>
+     * The status, entity and headers of the template are copied to the new builder, the typed header values are copied
+     * as they are, without being converted to strings and parsed again.
+     * </p>
+     *
+     * @param template a template from which the status code, entity and headers will be copied.
+     * @return a new response builder.
+     * @throws IllegalArgumentException if the template is {@code null}.
+     * @see ResponseBuilder#from(ResponseTemplate)
+     * @since 3.0
+     */
+    public static ResponseBuilder fromTemplate(final ResponseTemplate template) {
+        return ResponseBuilder.newInstance().from(template);
+    }
+
     /**
      * Create a new ResponseBuilder with the supplied status.
      *
@@ -745,6 +762,8 @@ public abstract class Response implements AutoCloseable {
      */
     public static abstract class ResponseBuilder {
 
+        private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
         /**
          * Protected constructor, use one of the static methods of {@code Response} to obtain an instance.
          */
@@ -768,6 +787,62 @@ public abstract class Response implements AutoCloseable {
          */
         public abstract Response build();
 
+        /**
+         * Create an immutable, shareable {@link ResponseTemplate} from the current ResponseBuilder. The builder is reset to
+         * a blank state equivalent to calling the ok method.
+         * <p>
+         * The default implementation creates the template from a response built by {@link #build()}.
+         * </p>
+         *
+         * @return a response template.
+         * @throws IllegalArgumentException if the entity is an {@link java.io.InputStream}, which cannot be shared.
+         * @since 3.0
+         */
+        public ResponseTemplate buildTemplate() {
+            return ResponseTemplate.of(build());
+        }
+
+        /**
+         * Reset the ResponseBuilder to a blank state equivalent to calling the ok method, without building a response.
+         * <p>
+         * Together with {@link #from(ResponseTemplate)}, resetting allows a builder confined to a single thread to be
+         * reused for building any number of responses.
+         * </p>
+         * <p>
+         * The default implementation sets the status to {@code 200 OK}, removes the entity and its annotations and removes
+         * all headers. Implementations are encouraged to override it with a cheaper equivalent.
+         * </p>
+         *
+         * @return the updated response builder.
+         * @since 3.0
+         */
+        public ResponseBuilder reset() {
+            return status(Status.OK).entity(null, NO_ANNOTATIONS).replaceAll(null);
+        }
+
+        /**
+         * Replace the state of the ResponseBuilder with the status, entity and headers of the supplied template.
+         * <p>
+         * The typed header values of the template are copied as they are, without being converted to strings and parsed
+         * again. Any entity annotations set previously are removed. The default implementation passes the immutable
+         * {@link ResponseTemplate#getHeaders() headers} of the template to {@link #replaceAll(MultivaluedMap)} directly,
+         * which copies them into the headers of the builder.
+         * </p>
+         *
+         * @param template a template from which the status code, entity and headers will be copied.
+         * @return the updated response builder.
+         * @throws IllegalArgumentException if the template is {@code null}.
+         * @since 3.0
+         */
+        public ResponseBuilder from(final ResponseTemplate template) {
+            if (template == null) {
+                throw new IllegalArgumentException("Response template must not be null.");
+            }
+            return status(template.getStatusInfo())
+                    .entity(template.getEntity(), NO_ANNOTATIONS)
+                    .replaceAll(template.getHeaders());
+        }
+
         /**
          * {@inheritDoc}
          * <p>
@@ -920,7 +995,8 @@ public abstract class Response implements AutoCloseable {
         public abstract ResponseBuilder header(String name, Object value);
 
         /**
-         * Replaces all existing headers with the newly supplied headers.
+         * Replaces all existing headers with the newly supplied headers. The supplied headers are copied, the builder does
+         * not retain or modify the supplied map.
          *
          * @param headers new headers to be set, if {@code null} all existing headers will be removed.
          * @return the updated response builder.
@@ -1131,6 +1207,55 @@ public abstract class Response implements AutoCloseable {
         public default Status toEnum() {
             return Status.fromStatusCode(getStatusCode());
         }
+
+        /**
+         * Get the status type for the supplied status code.
+         * <p>
+         * For the status codes defined by {@link Status}, the corresponding {@code Status} is returned. For other status
+         * codes in the range of {@code 100} to {@code 599}, a shared status type is returned, with the reason phrase
+         * registered via {@link #register(int, String)} or a reason phrase defined by HTTP extensions (for instance
+         * {@code 422 Unprocessable Entity} or {@code 451 Unavailable For Legal Reasons}). Repeated calls for the same status
+         * code thus do not create new objects. Status codes outside the range are not cached.
+         * </p>
+         *
+         * @param statusCode the numerical status code.
+         * @return status type for the status code.
+         * @since 3.0
+         */
+        public static StatusType of(final int statusCode) {
+            return StatusTypes.of(statusCode);
+        }
+
+        /**
+         * Get the status type for the supplied status code and reason phrase.
+         * <p>
+         * If the reason phrase is {@code null} or equal to the reason phrase of the status type returned by
+         * {@link #of(int)}, that status type is returned. Otherwise a new status type is created.
+         * </p>
+         *
+         * @param statusCode the numerical status code.
+         * @param reasonPhrase the reason phrase, {@code null} for the default reason phrase.
+         * @return status type for the status code and reason phrase.
+         * @since 3.0
+         */
+        public static StatusType of(final int statusCode, final String reasonPhrase) {
+            return StatusTypes.of(statusCode, reasonPhrase);
+        }
+
+        /**
+         * Register the reason phrase of a status code not defined by {@link Status}, so that {@link #of(int)} returns a
+         * shared status type with the reason phrase.
+         *
+         * @param statusCode the numerical status code, in the range of {@code 100} to {@code 599}.
+         * @param reasonPhrase the reason phrase.
+         * @return the registered status type.
+         * @throws IllegalArgumentException if the status code is outside of the range, is defined by {@link Status}, or the
+         * reason phrase is {@code null}.
+         * @since 3.0
+         */
+        public static StatusType register(final int statusCode, final String reasonPhrase) {
+            return StatusTypes.register(statusCode, reasonPhrase);
+        }
     }
 
     /**
@@ -1380,6 +1505,14 @@ public abstract class Response implements AutoCloseable {
          */
         NETWORK_AUTHENTICATION_REQUIRED(511, "Network Authentication Required");
 
+        private static final Status[] BY_CODE = new Status[StatusTypes.CODE_COUNT];
+
+        static {
+            for (Status status : values()) {
+                BY_CODE[status.code - StatusTypes.MIN_CODE] = status;
+            }
+        }
+
         private final int code;
         private final String reason;
         private final Family family;
@@ -1491,12 +1624,10 @@ public abstract class Response implements AutoCloseable {
          * @return the matching Status or null is no matching Status is defined.
          */
         public static Status fromStatusCode(final int statusCode) {
-            for (Status s : Status.values()) {
-                if (s.code == statusCode) {
-                    return s;
-                }
+            if (statusCode < StatusTypes.MIN_CODE || statusCode > StatusTypes.MAX_CODE) {
+                return null;
             }
-            return null;
+            return BY_CODE[statusCode - StatusTypes.MIN_CODE];
         }
     }
 }
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable, thread-safe template of a {@link Response}, built once and shared by any number of requests.
+ *
+ * <p>
+ * A template captures the status, headers and entity of an outbound response. The headers are converted to their
+ * string values and the typed header values are parsed when the template is created, so the per-request
+ * {@link #newResponse() responses} cost a single small allocation, without a {@link Response.ResponseBuilder} or any
+ * header formatting. Templates suit constant responses such as {@code 204 No Content}, {@code 304 Not Modified} or a
+ * fixed {@code 429 Too Many Requests}:
+ * </p>
+ *
+ * <pre>
+ * private static final ResponseTemplate NO_CONTENT = Response.noContent().buildTemplate();
+ *
+ * &#64;DELETE
+ * public Response delete() {
+ *     ...
+ *     return NO_CONTENT.newResponse();
+ * }
+ * </pre>
+ * <p>
+ * Each response created from a template is a lightweight flyweight holding only its own state, i.e. whether it has been
+ * closed. Its headers are the immutable headers of the template, header names are looked up ignoring case. The entity
+ * of a template, if any, is shared by all its responses and must therefore be safe to write any number of times,
+ * possibly concurrently.
+ * </p>
+ *
+ * @see Response.ResponseBuilder#buildTemplate()
+ * @since 3.0
+ */
+public final class ResponseTemplate {
+
+    private static final int MIN_CODE = 100;
+    private static final int MAX_CODE = 599;
+
+    private static final AtomicReferenceArray<ResponseTemplate> STATUS_TEMPLATES =
+            new AtomicReferenceArray<ResponseTemplate>(MAX_CODE - MIN_CODE + 1);
+
+    private final Response.StatusType status;
+    private final Object entity;
+    private final ImmutableMultivaluedMap<String, Object> headers;
+    private final ImmutableMultivaluedMap<String, String> stringHeaders;
+    private final ImmutableMultivaluedMap<String, String> headerStrings;
+    private final MediaType mediaType;
+    private final Locale language;
+    private final int length;
+    private final Set<String> allowedMethods;
+    private final Map<String, NewCookie> cookies;
+    private final EntityTag entityTag;
+    private final Date date;
+    private final Date lastModified;
+    private final URI location;
+    private final Set<Link> links;
+
+    private ResponseTemplate(final Response.StatusType status) {
+        this.status = status;
+        this.entity = null;
+        this.headers = ImmutableMultivaluedMap.empty();
+        this.stringHeaders = ImmutableMultivaluedMap.empty();
+        this.headerStrings = ImmutableMultivaluedMap.empty();
+        this.mediaType = null;
+        this.language = null;
+        this.length = -1;
+        this.allowedMethods = Collections.emptySet();
+        this.cookies = Collections.emptyMap();
+        this.entityTag = null;
+        this.date = null;
+        this.lastModified = null;
+        this.location = null;
+        this.links = Collections.emptySet();
+    }
+
+    private ResponseTemplate(final Response response) {
+        this.status = response.getStatusInfo();
+        this.entity = response.getEntity();
+        if (entity instanceof InputStream) {
+            throw new IllegalArgumentException("Entity input stream cannot be shared by a response template.");
+        }
+        this.headers = freeze(response.getMetadata());
+        this.stringHeaders = freeze(response.getStringHeaders());
+        final HeaderMultivaluedMap<String> joined = new HeaderMultivaluedMap<String>(stringHeaders.size() * 2);
+        for (Map.Entry<String, List<String>> e : stringHeaders.entrySet()) {
+            joined.putSingle(e.getKey(), join(e.getValue()));
+        }
+        this.headerStrings = ImmutableMultivaluedMap.copyOf(joined);
+        this.mediaType = response.getMediaType();
+        this.language = response.getLanguage();
+        this.length = response.getLength();
+        this.allowedMethods = Collections.unmodifiableSet(new LinkedHashSet<String>(response.getAllowedMethods()));
+        this.cookies = Collections.unmodifiableMap(new LinkedHashMap<String, NewCookie>(response.getCookies()));
+        this.entityTag = response.getEntityTag();
+        this.date = copy(response.getDate());
+        this.lastModified = copy(response.getLastModified());
+        this.location = response.getLocation();
+        this.links = Collections.unmodifiableSet(new LinkedHashSet<Link>(response.getLinks()));
+    }
+
+    /**
+     * Create a template of the supplied outbound response.
+     * <p>
+     * The status, entity and headers of the response are captured, the response itself is not retained and may be
+     * discarded afterwards.
+     * </p>
+     *
+     * @param response outbound response to be used as a template.
+     * @return response template.
+     * @throws NullPointerException if the response is {@code null}.
+     * @throws IllegalArgumentException if the entity of the response is an {@link InputStream}, which cannot be shared.
+     */
+    public static ResponseTemplate of(final Response response) {
+        if (response == null) {
+            throw new NullPointerException("Response must not be null.");
+        }
+        return new ResponseTemplate(response);
+    }
+
+    /**
+     * Create a template of a response consisting of the supplied status only, without any headers or an entity.
+     * <p>
+     * Unlike {@link #of(Response)}, creating such a template does not require a {@link jakarta.ws.rs.ext.RuntimeDelegate}.
+     * Templates of the shared status types returned by {@link Response.StatusType#of(int)}, including all
+     * {@link Response.Status} constants, are created once and reused.
+     * </p>
+     *
+     * @param status response status.
+     * @return response template.
+     * @throws NullPointerException if the status is {@code null}.
+     */
+    public static ResponseTemplate of(final Response.StatusType status) {
+        if (status == null) {
+            throw new NullPointerException("Status must not be null.");
+        }
+        final int code = status.getStatusCode();
+        if (code < MIN_CODE || code > MAX_CODE || Response.StatusType.of(code) != status) {
+            return new ResponseTemplate(status);
+        }
+        final int index = code - MIN_CODE;
+        final ResponseTemplate shared = STATUS_TEMPLATES.get(index);
+        if (shared != null && shared.status == status) {
+            return shared;
+        }
+        final ResponseTemplate template = new ResponseTemplate(status);
+        STATUS_TEMPLATES.set(index, template);
+        return template;
+    }
+
+    private static <V> ImmutableMultivaluedMap<String, V> freeze(final MultivaluedMap<String, V> map) {
+        if (ImmutableMultivaluedMap.isCaseInsensitive(map)) {
+            return ImmutableMultivaluedMap.copyOf(map);
+        }
+        return ImmutableMultivaluedMap.copyOf(new HeaderMultivaluedMap<V>(map));
+    }
+
+    private static String join(final List<String> values) {
+        if (values.size() == 1) {
+            return values.get(0);
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (String value : values) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    private static Date copy(final Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+
+    /**
+     * Create a new response from this template. The response shares the status, headers and entity of the template.
+     *
+     * @return new response.
+     */
+    public Response newResponse() {
+        return new TemplateResponse(this);
+    }
+
+    /**
+     * Get the status of the template.
+     *
+     * @return response status.
+     */
+    public Response.StatusType getStatusInfo() {
+        return status;
+    }
+
+    /**
+     * Get the entity of the template.
+     *
+     * @return shared response entity, {@code null} if there is none.
+     */
+    public Object getEntity() {
+        return entity;
+    }
+
+    /**
+     * Get the immutable headers of the template. Header names are looked up ignoring case.
+     *
+     * @return immutable response headers.
+     */
+    public ImmutableMultivaluedMap<String, Object> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the immutable string values of the headers of the template. Header names are looked up ignoring case.
+     *
+     * @return immutable response headers converted to their string values.
+     */
+    public ImmutableMultivaluedMap<String, String> getStringHeaders() {
+        return stringHeaders;
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseTemplate{status=" + status.getStatusCode() + ", headers=" + stringHeaders + '}';
+    }
+
+    /**
+     * Response flyweight sharing the state of its template.
+     */
+    private static final class TemplateResponse extends Response {
+
+        private final ResponseTemplate template;
+        private boolean closed;
+
+        private TemplateResponse(final ResponseTemplate template) {
+            this.template = template;
+        }
+
+        private void ensureOpen() {
+            if (closed) {
+                throw new IllegalStateException("Response has been closed.");
+            }
+        }
+
+        @Override
+        public int getStatus() {
+            return template.status.getStatusCode();
+        }
+
+        @Override
+        public StatusType getStatusInfo() {
+            return template.status;
+        }
+
+        @Override
+        public Object getEntity() {
+            ensureOpen();
+            return template.entity;
+        }
+
+        @Override
+        public <T> T readEntity(final Class<T> entityType) {
+            return readEntity();
+        }
+
+        @Override
+        public <T> T readEntity(final GenericType<T> entityType) {
+            return readEntity();
+        }
+
+        @Override
+        public <T> T readEntity(final Class<T> entityType, final Annotation[] annotations) {
+            return readEntity();
+        }
+
+        @Override
+        public <T> T readEntity(final GenericType<T> entityType, final Annotation[] annotations) {
+            return readEntity();
+        }
+
+        private <T> T readEntity() {
+            ensureOpen();
+            throw new IllegalStateException("Entity of an outbound response is not backed by an input stream.");
+        }
+
+        @Override
+        public boolean hasEntity() {
+            ensureOpen();
+            return template.entity != null;
+        }
+
+        @Override
+        public boolean bufferEntity() {
+            ensureOpen();
+            return false;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public MediaType getMediaType() {
+            return template.mediaType;
+        }
+
+        @Override
+        public Locale getLanguage() {
+            return template.language;
+        }
+
+        @Override
+        public int getLength() {
+            return template.length;
+        }
+
+        @Override
+        public Set<String> getAllowedMethods() {
+            return template.allowedMethods;
+        }
+
+        @Override
+        public Map<String, NewCookie> getCookies() {
+            return template.cookies;
+        }
+
+        @Override
+        public EntityTag getEntityTag() {
+            return template.entityTag;
+        }
+
+        @Override
+        public Date getDate() {
+            return copy(template.date);
+        }
+
+        @Override
+        public Date getLastModified() {
+            return copy(template.lastModified);
+        }
+
+        @Override
+        public URI getLocation() {
+            return template.location;
+        }
+
+        @Override
+        public Set<Link> getLinks() {
+            return template.links;
+        }
+
+        @Override
+        public boolean hasLink(final String relation) {
+            return getLink(relation) != null;
+        }
+
+        @Override
+        public Link getLink(final String relation) {
+            for (Link link : template.links) {
+                if (link.getRels().contains(relation)) {
+                    return link;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Link.Builder getLinkBuilder(final String relation) {
+            final Link link = getLink(relation);
+            return link == null ? null : Link.fromLink(link);
+        }
+
+        @Override
+        public MultivaluedMap<String, Object> getMetadata() {
+            return template.headers;
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getStringHeaders() {
+            return template.stringHeaders;
+        }
+
+        @Override
+        public String getHeaderString(final String name) {
+            return template.headerStrings.getFirst(name);
+        }
+
+        @Override
+        public String toString() {
+            return "TemplateResponse{" + template + '}';
+        }
+    }
+}
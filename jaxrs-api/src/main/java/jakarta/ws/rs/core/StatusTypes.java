@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.Response.Status.Family;
+import jakarta.ws.rs.core.Response.StatusType;
+
+/**
+ * Registry of shared {@link StatusType} instances for status codes not defined by {@link Status}.
+ *
+ * @since 3.0
+ */
+final class StatusTypes {
+
+    static final int MIN_CODE = 100;
+    static final int MAX_CODE = 599;
+    static final int CODE_COUNT = MAX_CODE - MIN_CODE + 1;
+
+    /**
+     * Shared status types, indexed by status code. {@link Status} constants are included so that lookups of defined
+     * status codes need not check the enum first.
+     */
+    private static final AtomicReferenceArray<StatusType> SHARED = new AtomicReferenceArray<StatusType>(CODE_COUNT);
+
+    static {
+        for (Status status : Status.values()) {
+            SHARED.set(status.getStatusCode() - MIN_CODE, status);
+        }
+    }
+
+    private StatusTypes() {
+        // prevents instantiation
+    }
+
+    static StatusType of(final int statusCode) {
+        if (statusCode < MIN_CODE || statusCode > MAX_CODE) {
+            return new CustomStatus(statusCode, "");
+        }
+        final int index = statusCode - MIN_CODE;
+        final StatusType shared = SHARED.get(index);
+        if (shared != null) {
+            return shared;
+        }
+        SHARED.compareAndSet(index, null, new CustomStatus(statusCode, defaultReasonPhrase(statusCode)));
+        return SHARED.get(index);
+    }
+
+    static StatusType of(final int statusCode, final String reasonPhrase) {
+        final StatusType shared = of(statusCode);
+        if (reasonPhrase == null || reasonPhrase.equals(shared.getReasonPhrase())) {
+            return shared;
+        }
+        return new CustomStatus(statusCode, reasonPhrase);
+    }
+
+    static StatusType register(final int statusCode, final String reasonPhrase) {
+        if (statusCode < MIN_CODE || statusCode > MAX_CODE) {
+            throw new IllegalArgumentException("Status code " + statusCode + " is out of range.");
+        }
+        if (reasonPhrase == null) {
+            throw new IllegalArgumentException("Reason phrase must not be null.");
+        }
+        if (Status.fromStatusCode(statusCode) != null) {
+            throw new IllegalArgumentException("Status code " + statusCode + " is defined by Response.Status.");
+        }
+        final StatusType status = new CustomStatus(statusCode, reasonPhrase);
+        SHARED.set(statusCode - MIN_CODE, status);
+        return status;
+    }
+
+    /**
+     * Reason phrases of commonly used status codes defined by HTTP extensions.
+     */
+    private static String defaultReasonPhrase(final int statusCode) {
+        switch (statusCode) {
+        case 102:
+            return "Processing";
+        case 103:
+            return "Early Hints";
+        case 207:
+            return "Multi-Status";
+        case 208:
+            return "Already Reported";
+        case 226:
+            return "IM Used";
+        case 308:
+            return "Permanent Redirect";
+        case 421:
+            return "Misdirected Request";
+        case 422:
+            return "Unprocessable Entity";
+        case 423:
+            return "Locked";
+        case 424:
+            return "Failed Dependency";
+        case 425:
+            return "Too Early";
+        case 426:
+            return "Upgrade Required";
+        case 451:
+            return "Unavailable For Legal Reasons";
+        case 506:
+            return "Variant Also Negotiates";
+        case 507:
+            return "Insufficient Storage";
+        case 508:
+            return "Loop Detected";
+        case 510:
+            return "Not Extended";
+        default:
+            return "";
+        }
+    }
+
+    /**
+     * Status type of a status code not defined by {@link Status}.
+     */
+    private static final class CustomStatus implements StatusType {
+
+        private final int code;
+        private final String reason;
+        private final Family family;
+
+        private CustomStatus(final int code, final String reason) {
+            this.code = code;
+            this.reason = reason;
+            this.family = Family.familyOf(code);
+        }
+
+        @Override
+        public int getStatusCode() {
+            return code;
+        }
+
+        @Override
+        public Family getFamily() {
+            return family;
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            return reason;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CustomStatus)) {
+                return false;
+            }
+            final CustomStatus other = (CustomStatus) o;
+            return code == other.code && reason.equals(other.reason);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * code + reason.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.RandomAccess;
+
+/**
+ * Compact, array-backed list holding the values of a single key in an {@link AbstractMultivaluedMap}.
+ * <p>
+ * Most keys of a multivalued map, in particular most HTTP headers, carry exactly one value. Such a value is held
+ * directly in a field without allocating any array; an array sized to the number of values is only allocated once a
+ * second value is added and grows by half of its size afterwards.
+ * </p>
+ *
+ * @param <V> the type of values.
+ * @since 3.0
+ */
+final class ValueList<V> extends AbstractList<V> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 3271457310478569315L;
+
+    // the only value while elements == null and size == 1
+    private transient Object single;
+    private transient Object[] elements;
+    private transient int size;
+
+    /**
+     * Create a new empty value list.
+     */
+    ValueList() {
+    }
+
+    /**
+     * Create a new value list holding the values of the supplied collection.
+     *
+     * @param values initial values.
+     */
+    ValueList(final Collection<? extends V> values) {
+        final Object[] initial = values.toArray();
+        if (initial.length == 1) {
+            single = initial[0];
+        } else if (initial.length > 1) {
+            elements = initial.getClass() == Object[].class ? initial : Arrays.copyOf(initial, initial.length, Object[].class);
+        }
+        size = initial.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(final int index) {
+        checkIndex(index, size);
+        return (V) (elements == null ? single : elements[index]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V set(final int index, final V value) {
+        checkIndex(index, size);
+        final Object previous;
+        if (elements == null) {
+            previous = single;
+            single = value;
+        } else {
+            previous = elements[index];
+            elements[index] = value;
+        }
+        return (V) previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(final V value) {
+        if (size == 0 && elements == null) {
+            single = value;
+        } else {
+            ensureArray(size + 1);
+            elements[size] = value;
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final V value) {
+        checkIndex(index, size + 1);
+        if (index == size) {
+            add(value);
+            return;
+        }
+        ensureArray(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(final int index) {
+        checkIndex(index, size);
+        final Object removed;
+        if (elements == null) {
+            removed = single;
+            single = null;
+        } else {
+            removed = elements[index];
+            System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+            elements[size - 1] = null;
+        }
+        size--;
+        modCount++;
+        return (V) removed;
+    }
+
+    @Override
+    public void clear() {
+        single = null;
+        elements = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Make sure the values are held in an array with room for at least {@code capacity} elements.
+     */
+    private void ensureArray(final int capacity) {
+        if (elements == null) {
+            elements = new Object[Math.max(capacity, 2)];
+            if (size == 1) {
+                elements[0] = single;
+                single = null;
+            }
+        } else if (elements.length < capacity) {
+            elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1)));
+        }
+    }
+
+    private static void checkIndex(final int index, final int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (bound));
+        }
+    }
+
+    /**
+     * Serialize the values as a {@link LinkedList}, the serialized form of the value lists of {@link MultivaluedHashMap}
+     * before this class was introduced, so that the serialized form of the maps does not depend on this class.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new LinkedList<V>(this);
+    }
+}
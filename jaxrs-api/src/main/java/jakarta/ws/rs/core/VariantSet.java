@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, pre-indexed set of resource representation variants supporting single-pass selection of the best variant
+ * for a request.
+ * <p>
+ * The distinct media types, languages and encodings of the variants are indexed once when the set is created. Selecting
+ * a variant then rates each distinct value against the request {@code Accept}, {@code Accept-Language} and
+ * {@code Accept-Encoding} headers once and picks the best variant in a single pass over the variants, comparing media
+ * type quality first, language preference second and encoding quality last. Ties are resolved by the order of the
+ * variants. A variant that does not specify one of the dimensions is acceptable in that dimension. The value of the
+ * {@code Vary} response header matching the set is computed once as well.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe, so a set can be created once per resource and shared by all requests.
+ * </p>
+ *
+ * @see Request#selectVariant(List)
+ * @see Variant
+ * @since 3.0
+ */
+public final class VariantSet {
+
+    private static final String WILDCARD = "*";
+    private static final String IDENTITY = "identity";
+
+    private final List<Variant> variants;
+    private final MediaTypeNegotiator mediaTypes;
+    private final Locale[] languages;
+    private final String[] encodings;
+    // per variant index into the distinct values of each dimension, -1 if the variant leaves the dimension unspecified
+    private final int[] mediaTypeIndex;
+    private final int[] languageIndex;
+    private final int[] encodingIndex;
+    private final String vary;
+
+    /**
+     * Create a new variant set.
+     *
+     * @param variants variants of a resource representation, in the order of preference.
+     * @throws NullPointerException if the list or any of its elements is {@code null}.
+     */
+    public VariantSet(final List<Variant> variants) {
+        this.variants = Collections.unmodifiableList(new ArrayList<>(variants));
+
+        final int n = this.variants.size();
+        final Map<MediaType, Integer> distinctMediaTypes = new LinkedHashMap<>();
+        final Map<Locale, Integer> distinctLanguages = new LinkedHashMap<>();
+        final Map<String, Integer> distinctEncodings = new LinkedHashMap<>();
+        this.mediaTypeIndex = new int[n];
+        this.languageIndex = new int[n];
+        this.encodingIndex = new int[n];
+
+        boolean mediaTypeVaries = false;
+        boolean languageVaries = false;
+        boolean encodingVaries = false;
+        for (int i = 0; i < n; i++) {
+            final Variant v = this.variants.get(i);
+            mediaTypeIndex[i] = indexOf(distinctMediaTypes, v.getMediaType());
+            languageIndex[i] = indexOf(distinctLanguages, v.getLanguage());
+            encodingIndex[i] = indexOf(distinctEncodings, v.getEncoding());
+            if (i > 0) {
+                mediaTypeVaries |= mediaTypeIndex[i] != mediaTypeIndex[0];
+                languageVaries |= languageIndex[i] != languageIndex[0];
+                encodingVaries |= encodingIndex[i] != encodingIndex[0];
+            }
+        }
+
+        this.mediaTypes = new MediaTypeNegotiator(new ArrayList<>(distinctMediaTypes.keySet()));
+        this.languages = distinctLanguages.keySet().toArray(new Locale[distinctLanguages.size()]);
+        this.encodings = distinctEncodings.keySet().toArray(new String[distinctEncodings.size()]);
+        this.vary = vary(mediaTypeVaries, languageVaries, encodingVaries);
+    }
+
+    private static <T> int indexOf(final Map<T, Integer> distinct, final T value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer index = distinct.get(value);
+        if (index == null) {
+            index = distinct.size();
+            distinct.put(value, index);
+        }
+        return index;
+    }
+
+    private static String vary(final boolean mediaType, final boolean language, final boolean encoding) {
+        final StringBuilder sb = new StringBuilder();
+        if (mediaType) {
+            sb.append(HttpHeaders.ACCEPT);
+        }
+        if (language) {
+            sb.append(sb.length() == 0 ? "" : ", ").append(HttpHeaders.ACCEPT_LANGUAGE);
+        }
+        if (encoding) {
+            sb.append(sb.length() == 0 ? "" : ", ").append(HttpHeaders.ACCEPT_ENCODING);
+        }
+        return sb.length() == 0 ? null : sb.toString();
+    }
+
+    /**
+     * Get the variants of this set.
+     *
+     * @return immutable list of the variants.
+     */
+    public List<Variant> getVariants() {
+        return variants;
+    }
+
+    /**
+     * Get the value of the {@code Vary} response header listing the request headers the variant selection depends on.
+     *
+     * @return the {@code Vary} header value or {@code null} if all variants are equal in every dimension.
+     */
+    public String getVaryHeader() {
+        return vary;
+    }
+
+    /**
+     * Select the variant that best matches the request preferences.
+     *
+     * @param acceptableMediaTypes acceptable media types, as returned by {@link HttpHeaders#getAcceptableMediaTypes()}.
+     * {@code null} or an empty list accepts any media type.
+     * @param acceptableLanguages acceptable languages in the order of preference, as returned by
+     * {@link HttpHeaders#getAcceptableLanguages()}. {@code null} or an empty list accepts any language.
+     * @param acceptableEncodings acceptable content codings of the {@code Accept-Encoding} header, optionally followed
+     * by a {@code ;q=} quality value (e.g. {@code "gzip;q=0.8"}). {@code null} or an empty list accepts any encoding.
+     * @return the best matching variant or {@code null} if none of the variants is acceptable.
+     */
+    public Variant select(final List<MediaType> acceptableMediaTypes,
+            final List<Locale> acceptableLanguages,
+            final List<String> acceptableEncodings) {
+
+        final int mediaTypeCount = mediaTypes.getProducedTypes().size();
+        final double[] mediaQuality = new double[mediaTypeCount];
+        final int[] mediaSpecificity = new int[mediaTypeCount];
+        if (acceptableMediaTypes == null || acceptableMediaTypes.isEmpty()) {
+            Arrays.fill(mediaQuality, 1);
+        } else {
+            mediaTypes.match(acceptableMediaTypes, mediaQuality, mediaSpecificity, new int[mediaTypeCount]);
+        }
+        final int[] languageRank = rankLanguages(acceptableLanguages);
+        final double[] encodingQuality = rateEncodings(acceptableEncodings);
+
+        int best = -1;
+        double bestMediaQuality = 0;
+        int bestMediaSpecificity = 0;
+        int bestLanguageRank = 0;
+        double bestEncodingQuality = 0;
+        for (int i = 0, n = variants.size(); i < n; i++) {
+            final int m = mediaTypeIndex[i];
+            final int l = languageIndex[i];
+            final int e = encodingIndex[i];
+
+            final double mq = m < 0 ? 1 : (mediaSpecificity[m] < 0 ? 0 : mediaQuality[m]);
+            final int ms = m < 0 ? 0 : mediaSpecificity[m];
+            final int lr = l < 0 ? 0 : languageRank[l];
+            final double eq = e < 0 ? 1 : encodingQuality[e];
+            if (mq <= 0 || lr < 0 || eq <= 0) {
+                continue;
+            }
+
+            if (best < 0
+                    || mq > bestMediaQuality
+                    || (mq == bestMediaQuality && (ms > bestMediaSpecificity
+                    || (ms == bestMediaSpecificity && (lr < bestLanguageRank
+                    || (lr == bestLanguageRank && eq > bestEncodingQuality)))))) {
+                best = i;
+                bestMediaQuality = mq;
+                bestMediaSpecificity = ms;
+                bestLanguageRank = lr;
+                bestEncodingQuality = eq;
+            }
+        }
+        return best < 0 ? null : variants.get(best);
+    }
+
+    /**
+     * Rank the distinct variant languages by the position of the first matching language range; lower is better and
+     * {@code -1} marks an unacceptable language.
+     */
+    private int[] rankLanguages(final List<Locale> acceptable) {
+        final int[] rank = new int[languages.length];
+        if (acceptable == null || acceptable.isEmpty()) {
+            return rank;
+        }
+        for (int i = 0; i < languages.length; i++) {
+            rank[i] = -1;
+            for (int r = 0, m = acceptable.size(); r < m; r++) {
+                if (matches(acceptable.get(r), languages[i])) {
+                    rank[i] = r;
+                    break;
+                }
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Check if a language range matches a language tag. A range matches tags it is equal to or a prefix of (e.g. {@code en}
+     * matches {@code en-US}) as well as tags that are a prefix of the range (e.g. {@code en-US} matches {@code en}), so a
+     * more generic variant is still acceptable for a more specific preference.
+     */
+    private static boolean matches(final Locale range, final Locale language) {
+        if (WILDCARD.equals(range.getLanguage())) {
+            return true;
+        }
+        return range.getLanguage().equalsIgnoreCase(language.getLanguage())
+                && matchesPrefix(range.getCountry(), language.getCountry())
+                && matchesPrefix(range.getVariant(), language.getVariant());
+    }
+
+    private static boolean matchesPrefix(final String range, final String tag) {
+        return range.isEmpty() || tag.isEmpty() || range.equalsIgnoreCase(tag);
+    }
+
+    /**
+     * Rate the distinct variant encodings with the quality of the matching content coding, falling back to the quality of
+     * the {@code *} content coding; {@code 0} marks an unacceptable encoding. As required by RFC 7231, section 5.3.4, the
+     * {@code identity} coding is acceptable unless excluded by {@code identity;q=0} or {@code *;q=0}; if it is not
+     * mentioned at all, it is rated below any listed coding.
+     */
+    private double[] rateEncodings(final List<String> acceptable) {
+        final double[] quality = new double[encodings.length];
+        if (acceptable == null || acceptable.isEmpty()) {
+            Arrays.fill(quality, 1);
+            return quality;
+        }
+        for (int i = 0; i < encodings.length; i++) {
+            double wildcard = IDENTITY.equalsIgnoreCase(encodings[i]) ? Double.MIN_VALUE : 0;
+            boolean found = false;
+            for (int r = 0, m = acceptable.size(); r < m && !found; r++) {
+                final String coding = acceptable.get(r);
+                final int separator = coding.indexOf(';');
+                final String name = (separator < 0 ? coding : coding.substring(0, separator)).trim();
+                final double q = separator < 0 ? 1 : parseQualityParameter(coding.substring(separator + 1));
+                if (name.equalsIgnoreCase(encodings[i])) {
+                    quality[i] = q;
+                    found = true;
+                } else if (WILDCARD.equals(name)) {
+                    wildcard = q;
+                }
+            }
+            if (!found) {
+                quality[i] = wildcard;
+            }
+        }
+        return quality;
+    }
+
+    private static double parseQualityParameter(final String parameter) {
+        final int equals = parameter.indexOf('=');
+        if (equals < 0 || !"q".equalsIgnoreCase(parameter.substring(0, equals).trim())) {
+            return 1;
+        }
+        return MediaTypeNegotiator.parseQuality(parameter.substring(equals + 1));
+    }
+}
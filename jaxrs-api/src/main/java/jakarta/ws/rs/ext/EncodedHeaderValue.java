@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Contract for HTTP header value types that expose their header representation already encoded as US-ASCII bytes.
+ * <p>
+ * The encoded form corresponds to the header string produced by the {@link RuntimeDelegate.HeaderDelegate} of the type
+ * (i.e. to the {@code toString()} value of the instance). Implementations compute the bytes once and share them between
+ * invocations, so a JAX-RS runtime can copy them straight into its network buffers without encoding the header value
+ * for every response. Characters outside of the US-ASCII range are not valid in HTTP header values and are replaced
+ * with {@code '?'}.
+ * </p>
+ *
+ * @see jakarta.ws.rs.core.MediaType
+ * @see jakarta.ws.rs.core.EntityTag
+ * @see jakarta.ws.rs.core.CacheControl
+ * @see jakarta.ws.rs.core.Cookie
+ * @see jakarta.ws.rs.core.Link
+ * @since 3.0
+ */
+public interface EncodedHeaderValue {
+
+    /**
+     * Get the US-ASCII encoded form of the header value.
+     *
+     * @return a read-only buffer over the encoded header value with its position set to zero and its limit set to the
+     * length of the encoded value. Each invocation returns a new buffer view, the underlying bytes may be shared.
+     */
+    public ByteBuffer getEncodedHeaderValue();
+}
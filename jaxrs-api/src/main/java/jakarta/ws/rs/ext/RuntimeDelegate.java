@@ -18,12 +18,17 @@ package jakarta.ws.rs.ext;
 
 import java.lang.reflect.ReflectPermission;
 import java.net.URL;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.Variant.VariantListBuilder;
+import jakarta.ws.rs.internal.FactoryFinder;
+import jakarta.ws.rs.internal.WeakIdentityMap;
 
 /**
  * Implementations of JAX-RS provide a concrete subclass of RuntimeDelegate and various JAX-RS API methods defer to
@@ -44,6 +49,22 @@ public abstract class RuntimeDelegate {
     private static final Object RD_LOCK = new Object();
     private static ReflectPermission suppressAccessChecksPermission = new ReflectPermission("suppressAccessChecks");
     private static volatile RuntimeDelegate cachedDelegate;
+    private static volatile RuntimeDelegate discoveredDelegate;
+
+    /**
+     * Runtime delegates set for particular context class loaders, keyed by weak references to the class loaders.
+     */
+    private static final WeakIdentityMap<ClassLoader, RuntimeDelegate> SCOPED_DELEGATES =
+            new WeakIdentityMap<ClassLoader, RuntimeDelegate>();
+
+    /**
+     * Header delegates created by this runtime delegate, keyed by header type. The map is owned by this instance, so the
+     * header delegates become unreachable together with the runtime delegate, for instance when a deployment using a
+     * scoped runtime delegate is undeployed. Instances created without running a constructor (mocks, for instance) lack
+     * the cache and create a new header delegate on every request.
+     */
+    private final ConcurrentHashMap<Class<?>, HeaderDelegate<?>> headerDelegates =
+            new ConcurrentHashMap<Class<?>, HeaderDelegate<?>>();
 
     /**
      * Allows custom implementations to extend the {@code RuntimeDelegate} class.
@@ -57,6 +78,11 @@ public abstract class RuntimeDelegate {
      * future use.
      *
      * <p>
+     * An instance set via {@link #setInstance(RuntimeDelegate)} takes precedence. Otherwise, if an instance has been set
+     * for the context class loader of the current thread via {@link #setInstance(ClassLoader, RuntimeDelegate)}, that
+     * instance is returned. Looking up an instance set for a class loader does not block.
+     * </p>
+     * <p>
      * The algorithm used to locate the RuntimeDelegate subclass to use consists of the following steps:
      * </p>
      * <ul>
@@ -74,20 +100,38 @@ public abstract class RuntimeDelegate {
      * @return an instance of {@code RuntimeDelegate}.
      */
     public static RuntimeDelegate getInstance() {
+        RuntimeDelegate result = cachedDelegate;
+        if (result != null) {
+            return result;
+        }
+        if (!SCOPED_DELEGATES.isEmpty()) {
+            result = SCOPED_DELEGATES.get(getContextClassLoader());
+            if (result != null) {
+                return result;
+            }
+        }
         // Double-check idiom for lazy initialization of fields.
         // Local variable is used to limit the number of more expensive accesses to a volatile field.
-        RuntimeDelegate result = cachedDelegate;
+        result = discoveredDelegate;
         if (result == null) { // First check (no locking)
             synchronized (RD_LOCK) {
-                result = cachedDelegate;
+                result = discoveredDelegate;
                 if (result == null) { // Second check (with locking)
-                    cachedDelegate = result = findDelegate();
+                    discoveredDelegate = result = findDelegate();
                 }
             }
         }
         return result;
     }
 
+    private static ClassLoader getContextClassLoader() {
+        if (System.getSecurityManager() == null) {
+            return Thread.currentThread().getContextClassLoader();
+        }
+        return AccessController.doPrivileged(
+                (PrivilegedAction<ClassLoader>) () -> Thread.currentThread().getContextClassLoader());
+    }
+
     /**
      * Obtain a {@code RuntimeDelegate} instance using the method described in {@link #getInstance}.
      *
@@ -130,6 +174,41 @@ public abstract class RuntimeDelegate {
         }
         synchronized (RD_LOCK) {
             RuntimeDelegate.cachedDelegate = rd;
+            if (rd == null) {
+                RuntimeDelegate.discoveredDelegate = null;
+            }
+        }
+    }
+
+    /**
+     * Set the runtime delegate that will be used by JAX-RS classes while the supplied class loader is the context class
+     * loader of the current thread, unless a runtime delegate has been set via {@link #setInstance(RuntimeDelegate)}.
+     * This allows a server to use a separate runtime delegate for each deployment.
+     * <p>
+     * The class loader is referenced weakly; the runtime delegate is referenced strongly until it is removed by passing
+     * {@code null}. A server should remove the runtime delegate when the deployment is undeployed, since a runtime delegate
+     * loaded by the class loader keeps the class loader reachable.
+     * </p>
+     *
+     * @param classLoader the context class loader for which the runtime delegate is used.
+     * @param rd the runtime delegate instance, {@code null} to remove the runtime delegate set for the class loader.
+     * @throws NullPointerException if the class loader is {@code null}.
+     * @throws SecurityException if there is a security manager and the permission ReflectPermission("suppressAccessChecks")
+     * has not been granted.
+     * @since 3.0
+     */
+    public static void setInstance(final ClassLoader classLoader, final RuntimeDelegate rd) {
+        if (classLoader == null) {
+            throw new NullPointerException("Class loader must not be null.");
+        }
+        SecurityManager security = System.getSecurityManager();
+        if (security != null) {
+            security.checkPermission(suppressAccessChecksPermission);
+        }
+        if (rd == null) {
+            SCOPED_DELEGATES.remove(classLoader);
+        } else {
+            SCOPED_DELEGATES.put(classLoader, rd);
         }
     }
 
@@ -186,6 +265,56 @@ public abstract class RuntimeDelegate {
     public abstract <T> HeaderDelegate<T> createHeaderDelegate(Class<T> type)
             throws IllegalArgumentException;
 
+    /**
+     * Get the {@link HeaderDelegate} for the supplied class. The delegate is created by
+     * {@link #createHeaderDelegate(Class)} on the first request for the class and cached by this runtime delegate, so that
+     * subsequent requests are served without locking and without creating a new delegate. A failure to create the
+     * delegate is not cached, neither is a {@code null} delegate. The cache references the header types and their
+     * delegates strongly for the lifetime of this runtime delegate. Implementations that change the delegates returned
+     * by {@code createHeaderDelegate} after they have been requested must call {@link #invalidateHeaderDelegates()}.
+     *
+     * @param <T> header type.
+     * @param type the class of the header.
+     * @return the cached instance of {@code HeaderDelegate} for the supplied type.
+     * @throws java.lang.IllegalArgumentException if type is {@code null}.
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> HeaderDelegate<T> getHeaderDelegate(final Class<T> type) throws IllegalArgumentException {
+        if (type == null) {
+            return createHeaderDelegate(type);
+        }
+        final ConcurrentHashMap<Class<?>, HeaderDelegate<?>> cache = headerDelegates;
+        if (cache == null) {
+            return createHeaderDelegate(type);
+        }
+        HeaderDelegate<?> delegate = cache.get(type);
+        if (delegate == null) {
+            // created outside of the map, since creating a delegate may request other delegates
+            delegate = createHeaderDelegate(type);
+            if (delegate != null) {
+                final HeaderDelegate<?> previous = cache.putIfAbsent(type, delegate);
+                if (previous != null) {
+                    delegate = previous;
+                }
+            }
+        }
+        return (HeaderDelegate<T>) delegate;
+    }
+
+    /**
+     * Discard the header delegates cached by {@link #getHeaderDelegate(Class)}, so that they are created anew by
+     * {@link #createHeaderDelegate(Class)} on the next request. Intended for implementations registering header
+     * delegates after the first request.
+     *
+     * @since 3.0
+     */
+    protected final void invalidateHeaderDelegates() {
+        if (headerDelegates != null) {
+            headerDelegates.clear();
+        }
+    }
+
     /**
      * Defines the contract for a delegate that is responsible for converting between the String form of a HTTP header and
      * the corresponding JAX-RS type {@code T}.
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Factory finder utility class shared by {@code ClientBuilder}, {@code RuntimeDelegate} and
+ * {@code SseEventSource}.
+ *
+ * <p>
+ * The provider class resolved for a factory is cached per context class loader, so that creating a factory instance
+ * neither rescans {@code META-INF/services} nor checks the file system again. The cache references neither the class
+ * loaders nor the provider classes strongly, so it does not prevent unloading of applications, and it is read without
+ * locking. The {@code $java.home/lib/jaxrs.properties} file is read at most once.
+ * </p>
+ * <p>
+ * Before scanning {@code META-INF/services}, the finder consults the {@value #PROVIDER_INDEX} resource, a properties
+ * file mapping factory ids to implementation class names. The index can be generated at build time by
+ * {@link ProviderIndexProcessor}.
+ * </p>
+ * <p>
+ * This class is not part of the API. It lives in a package that is neither exported by the module nor by the OSGi
+ * bundle.
+ * </p>
+ *
+ * @author Paul Sandoz
+ * @author Marc Hadley
+ * @author Marek Potociar
+ * @since 3.0
+ */
+public final class FactoryFinder {
+
+    private static final Logger LOGGER = Logger.getLogger(FactoryFinder.class.getName());
+
+    /**
+     * Name of the provider index resource.
+     */
+    public static final String PROVIDER_INDEX = "META-INF/jakarta.ws.rs-providers.properties";
+
+    /**
+     * Resolved provider classes per context class loader, keyed by factory id.
+     */
+    private static final WeakIdentityMap<ClassLoader, Map<String, Resolved>> RESOLVED =
+            new WeakIdentityMap<ClassLoader, Map<String, Resolved>>();
+
+    /**
+     * Contents of {@code $java.home/lib/jaxrs.properties}, empty if there is no such file.
+     */
+    private static volatile Properties jaxrsProperties;
+
+    private FactoryFinder() {
+        // prevents instantiation
+    }
+
+    /**
+     * Provider class resolved for a factory id, along with the system property value it was resolved from, if any.
+     */
+    private static final class Resolved {
+
+        private final WeakReference<Class<?>> providerClass;
+        private final String systemProperty;
+
+        private Resolved(final Class<?> providerClass, final String systemProperty) {
+            this.providerClass = new WeakReference<Class<?>>(providerClass);
+            this.systemProperty = systemProperty;
+        }
+    }
+
+    private static ClassLoader getContextClassLoader() {
+        if (System.getSecurityManager() == null) {
+            return Thread.currentThread().getContextClassLoader();
+        }
+        return AccessController.doPrivileged((PrivilegedAction<ClassLoader>) () -> {
+            ClassLoader cl = null;
+            try {
+                cl = Thread.currentThread().getContextClassLoader();
+            } catch (SecurityException ex) {
+                LOGGER.log(
+                        Level.WARNING,
+                        "Unable to get context classloader instance.",
+                        ex);
+            }
+            return cl;
+        });
+    }
+
+    private static Map<String, Resolved> resolved(final ClassLoader classLoader) {
+        return RESOLVED.computeIfAbsent(classLoader, cl -> new ConcurrentHashMap<String, Resolved>());
+    }
+
+    /**
+     * Loads the specified class using the specified {@code ClassLoader} object, falling back to the defining loader of
+     * this class.
+     *
+     * @param className name of the class to be loaded.
+     * @param classLoader class loader to be used.
+     * @return the loaded class.
+     * @throws ClassNotFoundException if the given class could not be found.
+     */
+    private static Class<?> loadClass(final String className, final ClassLoader classLoader)
+            throws ClassNotFoundException {
+        if (classLoader == null) {
+            return Class.forName(className);
+        }
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException ex) {
+            LOGGER.log(
+                    Level.FINE,
+                    "Unable to load provider class " + className
+                            + " using custom classloader " + classLoader.getClass().getName()
+                            + " trying again with current classloader.",
+                    ex);
+            return Class.forName(className);
+        }
+    }
+
+    /**
+     * Creates an instance of the specified class.
+     *
+     * @param spiClass class to be instantiated.
+     * @return instance of the specified class.
+     * @throws ClassNotFoundException if the given class could not be instantiated.
+     */
+    private static Object newInstance(final Class<?> spiClass) throws ClassNotFoundException {
+        try {
+            return spiClass.getDeclaredConstructor().newInstance();
+        } catch (Exception x) {
+            throw new ClassNotFoundException("Provider " + spiClass.getName() + " could not be instantiated: " + x, x);
+        }
+    }
+
+    private static <T> Object loadService(final Class<T> service, final ClassLoader cl) {
+        final PrivilegedAction<Object> action = () -> {
+            final Iterator<T> iterator = ServiceLoader.load(service, cl).iterator();
+            return iterator.hasNext() ? iterator.next() : null;
+        };
+        return System.getSecurityManager() == null ? action.run() : AccessController.doPrivileged(action);
+    }
+
+    private static String indexedProvider(final String factoryId, final ClassLoader classLoader) {
+        final PrivilegedAction<URL> action = () -> classLoader == null
+                ? ClassLoader.getSystemResource(PROVIDER_INDEX)
+                : classLoader.getResource(PROVIDER_INDEX);
+        final URL index = System.getSecurityManager() == null ? action.run() : AccessController.doPrivileged(action);
+        if (index == null) {
+            return null;
+        }
+        final Properties props = new Properties();
+        try (InputStream inputStream = index.openStream()) {
+            props.load(inputStream);
+        } catch (IOException ex) {
+            LOGGER.log(Level.FINER, "Failed to read provider index " + index + ".", ex);
+        }
+        return props.getProperty(factoryId);
+    }
+
+    private static Properties jaxrsProperties() {
+        Properties props = jaxrsProperties;
+        if (props == null) {
+            props = new Properties();
+            FileInputStream inputStream = null;
+            String configFile = null;
+            try {
+                String javah = System.getProperty("java.home");
+                configFile = javah + File.separator + "lib" + File.separator + "jaxrs.properties";
+                File f = new File(configFile);
+                if (f.exists()) {
+                    inputStream = new FileInputStream(f);
+                    props.load(inputStream);
+                }
+            } catch (Exception ex) {
+                LOGGER.log(Level.FINER, "Failed to load $java.home/lib/jaxrs.properties", ex);
+            } finally {
+                if (inputStream != null) {
+                    try {
+                        inputStream.close();
+                    } catch (IOException ex) {
+                        LOGGER.log(Level.FINER, String.format("Error closing %s file.", configFile), ex);
+                    }
+                }
+            }
+            jaxrsProperties = props;
+        }
+        return props;
+    }
+
+    private static String systemProperty(final String factoryId) {
+        try {
+            return System.getProperty(factoryId);
+        } catch (SecurityException se) {
+            LOGGER.log(Level.FINER, "Failed to load service " + factoryId
+                    + " from a system property", se);
+            return null;
+        }
+    }
+
+    /**
+     * Finds the implementation {@code Class} for the given factory name and create its instance.
+     * <p>
+     * The implementation is looked up in the provider index of the context class loader, then using the
+     * {@link ServiceLoader} of the context class loader and of the class loader of this class, then in
+     * {@code $java.home/lib/jaxrs.properties} and finally in the system property named by the factory id. The resolved
+     * class is cached for the context class loader; a class resolved from the system property is looked up again when
+     * the property changes.
+     * </p>
+     *
+     * @param factoryId the name of the factory to find, which is a system property.
+     * @param service service to be found.
+     * @param <T> type of the service to be found.
+     * @return the instance of the specified service; may not be {@code null}.
+     * @throws ClassNotFoundException if the given class could not be found or could not be instantiated.
+     */
+    public static <T> Object find(final String factoryId, final Class<T> service) throws ClassNotFoundException {
+        final ClassLoader classLoader = getContextClassLoader();
+        final Map<String, Resolved> cache = resolved(classLoader);
+
+        final Resolved cached = cache.get(factoryId);
+        if (cached != null) {
+            final Class<?> providerClass = cached.providerClass.get();
+            if (providerClass != null
+                    && (cached.systemProperty == null || cached.systemProperty.equals(systemProperty(factoryId)))) {
+                try {
+                    return newInstance(providerClass);
+                } catch (ClassNotFoundException ex) {
+                    LOGGER.log(Level.FINER, "Failed to instantiate cached provider of " + factoryId + ".", ex);
+                }
+            }
+            cache.remove(factoryId, cached);
+        }
+
+        return lookup(factoryId, service, classLoader, cache);
+    }
+
+    private static <T> Object lookup(final String factoryId, final Class<T> service, final ClassLoader classLoader,
+            final Map<String, Resolved> cache) throws ClassNotFoundException {
+        try {
+            final String indexed = indexedProvider(factoryId, classLoader);
+            if (indexed != null) {
+                final Class<?> providerClass = loadClass(indexed, classLoader);
+                final Object res = newInstance(providerClass);
+                cache.put(factoryId, new Resolved(providerClass, null));
+                return res;
+            }
+        } catch (Exception ex) {
+            LOGGER.log(Level.FINER, "Failed to load service " + factoryId + " from the provider index.", ex);
+        }
+
+        try {
+            Object res = loadService(service, classLoader);
+            if (res != null) {
+                cache.put(factoryId, new Resolved(res.getClass(), null));
+                return res;
+            }
+        } catch (Exception | ServiceConfigurationError ex) {
+            LOGGER.log(Level.FINER, "Failed to load service " + factoryId + ".", ex);
+        }
+
+        try {
+            Object res = loadService(service, FactoryFinder.class.getClassLoader());
+            if (res != null) {
+                cache.put(factoryId, new Resolved(res.getClass(), null));
+                return res;
+            }
+        } catch (Exception | ServiceConfigurationError ex) {
+            LOGGER.log(Level.FINER, "Failed to load service " + factoryId + ".", ex);
+        }
+
+        // try to read from $java.home/lib/jaxrs.properties
+        final String factoryClassName = jaxrsProperties().getProperty(factoryId);
+        if (factoryClassName != null) {
+            try {
+                final Class<?> providerClass = loadClass(factoryClassName, classLoader);
+                final Object res = newInstance(providerClass);
+                cache.put(factoryId, new Resolved(providerClass, null));
+                return res;
+            } catch (Exception ex) {
+                LOGGER.log(Level.FINER, "Failed to load service " + factoryId
+                        + " from $java.home/lib/jaxrs.properties", ex);
+            }
+        }
+
+        // Use the system property
+        final String systemProp = systemProperty(factoryId);
+        if (systemProp != null) {
+            final Class<?> providerClass = loadClass(systemProp, classLoader);
+            final Object res = newInstance(providerClass);
+            cache.put(factoryId, new Resolved(providerClass, systemProp));
+            return res;
+        }
+
+        throw new ClassNotFoundException(
+                "Provider for " + factoryId + " cannot be found", null);
+    }
+}
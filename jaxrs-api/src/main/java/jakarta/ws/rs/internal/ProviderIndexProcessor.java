@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+import jakarta.ws.rs.sse.SseEventSource;
+
+/**
+ * Annotation processor generating the provider index consulted by {@link FactoryFinder}.
+ *
+ * <p>
+ * The processor looks for public concrete subclasses of {@link RuntimeDelegate}, {@link ClientBuilder} and
+ * {@link SseEventSource.Builder} among the compiled classes and lists them in the {@value FactoryFinder#PROVIDER_INDEX}
+ * resource, so that the implementation is found at run time without scanning {@code META-INF/services}. The processor
+ * is not registered as a service; an implementation opts in by naming it in the compiler options, for example
+ * {@code -processor jakarta.ws.rs.internal.ProviderIndexProcessor}, or in the {@code annotationProcessors} of the Maven
+ * compiler plugin.
+ * </p>
+ * <p>
+ * If there are several candidates for one factory, for instance alternative or test implementations, the processor
+ * reports an error rather than picking one, since the index takes precedence over {@code META-INF/services}. The
+ * implementation to index is then named by a processor option whose key is the factory id, for example
+ * {@code -Ajakarta.ws.rs.ext.RuntimeDelegate=org.example.RuntimeDelegateImpl}. A class named by an option is indexed
+ * as is, even if it is not among the compiled classes.
+ * </p>
+ *
+ * @since 3.0
+ */
+@SupportedAnnotationTypes("*")
+public final class ProviderIndexProcessor extends AbstractProcessor {
+
+    private static final String[][] FACTORIES = {
+            {RuntimeDelegate.JAXRS_RUNTIME_DELEGATE_PROPERTY, RuntimeDelegate.class.getCanonicalName()},
+            {ClientBuilder.JAXRS_DEFAULT_CLIENT_BUILDER_PROPERTY, ClientBuilder.class.getCanonicalName()},
+            {SseEventSource.Builder.JAXRS_DEFAULT_SSE_BUILDER_PROPERTY, SseEventSource.Builder.class.getCanonicalName()}
+    };
+
+    private final Map<String, Set<String>> candidates = new TreeMap<String, Set<String>>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        final Set<String> options = new LinkedHashSet<String>();
+        for (String[] factory : FACTORIES) {
+            options.add(factory[0]);
+        }
+        return options;
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            final Map<String, String> index = index();
+            if (index != null && !index.isEmpty()) {
+                write(index);
+            }
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            visit(element);
+        }
+        return false;
+    }
+
+    private void visit(final Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return;
+        }
+        final TypeElement type = (TypeElement) element;
+        if (type.getModifiers().contains(Modifier.PUBLIC) && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+            final TypeMirror mirror = processingEnv.getTypeUtils().erasure(type.asType());
+            for (String[] factory : FACTORIES) {
+                final TypeElement factoryType = processingEnv.getElementUtils().getTypeElement(factory[1]);
+                if (factoryType != null && processingEnv.getTypeUtils().isSubtype(mirror,
+                        processingEnv.getTypeUtils().erasure(factoryType.asType()))) {
+                    register(factory[0], processingEnv.getElementUtils().getBinaryName(type).toString());
+                }
+            }
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getModifiers().contains(Modifier.STATIC)) {
+                visit(enclosed);
+            }
+        }
+    }
+
+    private void register(final String factoryId, final String className) {
+        Set<String> classNames = candidates.get(factoryId);
+        if (classNames == null) {
+            classNames = new TreeSet<String>();
+            candidates.put(factoryId, classNames);
+        }
+        classNames.add(className);
+    }
+
+    /**
+     * Resolve the implementation of each factory, {@code null} if the implementation of some factory is ambiguous.
+     */
+    private Map<String, String> index() {
+        final Map<String, String> index = new TreeMap<String, String>();
+        boolean ambiguous = false;
+        for (String[] factory : FACTORIES) {
+            final String option = processingEnv.getOptions().get(factory[0]);
+            final Set<String> classNames = candidates.get(factory[0]);
+            if (option != null && !option.isEmpty()) {
+                index.put(factory[0], option);
+            } else if (classNames != null && classNames.size() == 1) {
+                index.put(factory[0], classNames.iterator().next());
+            } else if (classNames != null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Several implementations of " + factory[0] + " found: " + classNames
+                                + ". Name the one to index using the -A" + factory[0] + "=<class name> option.");
+                ambiguous = true;
+            }
+        }
+        return ambiguous ? null : index;
+    }
+
+    private void write(final Map<String, String> index) {
+        final StringBuilder content = new StringBuilder("# Generated by ").append(getClass().getName()).append('\n');
+        for (Map.Entry<String, String> e : index.entrySet()) {
+            content.append(e.getKey()).append('=').append(e.getValue()).append('\n');
+        }
+        try {
+            final FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", FactoryFinder.PROVIDER_INDEX);
+            try (OutputStream out = resource.openOutputStream()) {
+                out.write(content.toString().getBytes(StandardCharsets.ISO_8859_1));
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + FactoryFinder.PROVIDER_INDEX + ": " + ex);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Concurrent map with weakly referenced keys compared by identity.
+ *
+ * <p>
+ * Lookups do not lock. They allocate a small strongly referencing lookup key, but no weak reference, which is only
+ * created when a mapping is added. Mappings of keys that have been garbage collected are removed when the map is next
+ * modified. Values are referenced strongly, so a value must not reference its own key, otherwise the key is never
+ * collected. A {@code null} key is supported and never collected.
+ * </p>
+ * <p>
+ * This class is not part of the API. It lives in a package that is neither exported by the module nor by the OSGi
+ * bundle.
+ * </p>
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ * @since 3.0
+ */
+public final class WeakIdentityMap<K, V> {
+
+    private final ConcurrentHashMap<Object, V> map = new ConcurrentHashMap<Object, V>();
+    private final ReferenceQueue<K> stale = new ReferenceQueue<K>();
+
+    /**
+     * Get the value mapped to the supplied key.
+     *
+     * @param key the key, may be {@code null}.
+     * @return the mapped value, {@code null} if there is none.
+     */
+    public V get(final K key) {
+        return map.get(new Lookup(key));
+    }
+
+    /**
+     * Get the value mapped to the supplied key, computing and mapping a new value if there is none. The function may be
+     * invoked concurrently for the same key, only one of the computed values is retained.
+     *
+     * @param key the key, may be {@code null}.
+     * @param function function computing the value, must not return {@code null}.
+     * @return the mapped value.
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> function) {
+        final V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        expungeStale();
+        final V computed = function.apply(key);
+        final V previous = map.putIfAbsent(new Key<K>(key, stale), computed);
+        return previous == null ? computed : previous;
+    }
+
+    /**
+     * Map the supplied value to the supplied key.
+     *
+     * @param key the key, may be {@code null}.
+     * @param value the value, must not be {@code null}.
+     * @return the previously mapped value, {@code null} if there was none.
+     */
+    public V put(final K key, final V value) {
+        expungeStale();
+        return map.put(new Key<K>(key, stale), value);
+    }
+
+    /**
+     * Remove the mapping of the supplied key.
+     *
+     * @param key the key, may be {@code null}.
+     * @return the previously mapped value, {@code null} if there was none.
+     */
+    public V remove(final K key) {
+        expungeStale();
+        return map.remove(new Lookup(key));
+    }
+
+    /**
+     * Check whether the map has no mappings. Mappings of collected keys may still be counted.
+     *
+     * @return {@code true} if the map has no mappings.
+     */
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Get the number of mappings. Mappings of collected keys may still be counted.
+     *
+     * @return the number of mappings.
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Get the values of the map.
+     *
+     * @return live view of the mapped values.
+     */
+    public Iterable<V> values() {
+        return map.values();
+    }
+
+    private void expungeStale() {
+        for (Reference<? extends K> key; (key = stale.poll()) != null;) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * Weak key of a mapping, equal to other keys and lookups of the same referent.
+     */
+    private static final class Key<K> extends WeakReference<K> {
+
+        private final int hash;
+        private final boolean nullKey;
+
+        private Key(final K key, final ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+            this.nullKey = key == null;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o == this) {
+                return true;
+            }
+            final Object key = get();
+            if (key == null && !nullKey) {
+                return false;
+            }
+            if (o instanceof Key) {
+                final Key<?> other = (Key<?>) o;
+                return other.get() == key && other.nullKey == nullKey;
+            }
+            return o instanceof Lookup && ((Lookup) o).key == key;
+        }
+    }
+
+    /**
+     * Lookup of a mapping, avoiding the creation of a weak reference for each lookup.
+     */
+    private static final class Lookup {
+
+        private final Object key;
+
+        private Lookup(final Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o instanceof Key) {
+                return o.equals(this);
+            }
+            return o instanceof Lookup && ((Lookup) o).key == key;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.internal.FactoryFinder;
 
 /**
  * Client for reading and processing {@link InboundSseEvent incoming Server-Sent Events}.
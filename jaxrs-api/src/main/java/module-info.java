@@ -18,6 +18,8 @@ module jakarta.ws.rs {
 
     requires static jakarta.xml.bind;
 
+    requires static java.compiler;
+
     requires java.logging;
 
     exports jakarta.ws.rs;
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+import org.junit.Test;
+
+/**
+ * Checks the exceptions created without a stack trace.
+ */
+public class StacklessExceptionTest {
+
+    @Test
+    public void testWithoutStackTrace() {
+        NotFoundException e = NotFoundException.withoutStackTrace();
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("HTTP 404 Not Found", e.getMessage());
+        assertEquals(404, e.getResponse().getStatus());
+
+        e.fillInStackTrace();
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    public void testIndependentResponses() {
+        NotFoundException first = NotFoundException.withoutStackTrace();
+        NotFoundException second = NotFoundException.withoutStackTrace("missing");
+        assertNotSame(first.getResponse(), second.getResponse());
+        assertSame(first.getResponse().getStatusInfo(), second.getResponse().getStatusInfo());
+        assertEquals("missing", second.getMessage());
+        assertSame(first.getMessage(), NotFoundException.withoutStackTrace().getMessage());
+
+        first.getResponse().close();
+        assertFalse(second.getResponse().hasEntity());
+    }
+
+    @Test
+    public void testStatuses() {
+        assertStatus(Status.BAD_REQUEST, BadRequestException.withoutStackTrace());
+        assertStatus(Status.FORBIDDEN, ForbiddenException.withoutStackTrace());
+        assertStatus(Status.NOT_ACCEPTABLE, NotAcceptableException.withoutStackTrace());
+        assertStatus(Status.NOT_FOUND, NotFoundException.withoutStackTrace());
+        assertStatus(Status.UNSUPPORTED_MEDIA_TYPE, NotSupportedException.withoutStackTrace());
+        assertStatus(Status.INTERNAL_SERVER_ERROR, InternalServerErrorException.withoutStackTrace());
+        assertStatus(Status.SERVICE_UNAVAILABLE, ServiceUnavailableException.withoutStackTrace());
+    }
+
+    @Test
+    public void testSuppression() {
+        ServiceUnavailableException e = ServiceUnavailableException.withoutStackTrace();
+        e.addSuppressed(new IllegalStateException());
+        assertEquals(1, e.getSuppressed().length);
+    }
+
+    private static void assertStatus(final Status status, final WebApplicationException e) {
+        Response response = e.getResponse();
+        assertSame(status, response.getStatusInfo());
+        assertTrue(e.getMessage().startsWith("HTTP " + status.getStatusCode() + ' '));
+        assertEquals(0, e.getStackTrace().length);
+    }
+}
@@ -16,8 +16,14 @@
 
 package jakarta.ws.rs.core;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.RandomAccess;
+
 import org.junit.Test;
 
 
@@ -42,4 +48,30 @@ public class AbstractMultivaluedMapTest {
             // passed
         }
     }
+
+    /**
+     * Test the value list semantics of single and multiple values.
+     */
+    @Test
+    public void testValueLists() {
+        MultivaluedHashMap<String, String> map = new MultivaluedHashMap<String, String>();
+
+        map.add("single", "a");
+        assertEquals(Collections.singletonList("a"), map.get("single"));
+        assertTrue(map.get("single") instanceof RandomAccess);
+
+        map.addFirst("single", "b");
+        map.add("single", "c");
+        assertEquals(Arrays.asList("b", "a", "c"), map.get("single"));
+        assertEquals("b", map.getFirst("single"));
+
+        map.putSingle("single", "d");
+        assertEquals(Collections.singletonList("d"), map.get("single"));
+
+        map.addAll("multi", "1", "2", "3", "4");
+        map.get("multi").remove("2");
+        map.addFirst("multi", "0");
+        assertEquals(Arrays.asList("0", "1", "3", "4"), map.get("multi"));
+        assertEquals(Arrays.asList("0", "1", "3", "4").hashCode(), map.get("multi").hashCode());
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * ConcurrentMultivaluedMap unit tests.
+ */
+public class ConcurrentMultivaluedMapTest {
+
+    @Test
+    public void testMultivaluedOperations() {
+        ConcurrentMultivaluedMap<String, String> map = new ConcurrentMultivaluedMap<String, String>();
+        map.add("a", "1");
+        map.add("a", null);
+        map.addFirst("a", "0");
+        map.addAll("a", "2", null, "3");
+        map.addAll("a", Collections.<String>emptyList());
+        assertEquals(Arrays.asList("0", "1", "2", "3"), map.get("a"));
+        assertEquals("0", map.getFirst("a"));
+        assertNull(map.getFirst("b"));
+
+        map.putSingle("b", null);
+        assertEquals(Collections.emptyList(), map.get("b"));
+
+        MultivaluedHashMap<String, String> other = new MultivaluedHashMap<String, String>();
+        other.addAll("a", "3", "2", "1", "0");
+        other.put("b", new ArrayList<String>());
+        assertTrue(map.equalsIgnoreValueOrder(other));
+        assertEquals(new ConcurrentMultivaluedMap<String, String>(other).keySet(), map.keySet());
+    }
+
+    @Test
+    public void testComputedListsAreKeptThreadSafe() {
+        ConcurrentMultivaluedMap<String, String> map = new ConcurrentMultivaluedMap<String, String>();
+        map.computeIfAbsent("a", k -> new ArrayList<String>()).add("1");
+        map.computeIfAbsent("a", k -> new ArrayList<String>()).add("2");
+        assertEquals(Arrays.asList("1", "2"), map.get("a"));
+        assertTrue(map.get("a") instanceof CopyOnWriteArrayList);
+
+        map.compute("b", (k, v) -> new LinkedList<String>(Arrays.asList("1", null)));
+        assertEquals(Collections.singletonList("1"), map.get("b"));
+        assertTrue(map.get("b") instanceof CopyOnWriteArrayList);
+
+        List<String> stored = map.get("b");
+        assertSame(stored, map.compute("b", (k, v) -> {
+            v.add("2");
+            return v;
+        }));
+        assertSame(stored, map.computeIfPresent("b", (k, v) -> v));
+        assertEquals(Arrays.asList("1", "2"), map.get("b"));
+
+        map.merge("c", new LinkedList<String>(Collections.singletonList("1")), (a, b) -> a);
+        assertTrue(map.get("c") instanceof CopyOnWriteArrayList);
+        map.merge("c", Collections.singletonList("2"), (a, b) -> {
+            List<String> merged = new LinkedList<String>(a);
+            merged.addAll(b);
+            return merged;
+        });
+        assertEquals(Arrays.asList("1", "2"), map.get("c"));
+        assertTrue(map.get("c") instanceof CopyOnWriteArrayList);
+    }
+
+    @Test
+    public void testEntryValuesAreKeptThreadSafe() {
+        ConcurrentMultivaluedMap<String, String> map = new ConcurrentMultivaluedMap<String, String>();
+        map.add("a", "1");
+        map.add("b", "2");
+        for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+            entry.setValue(new LinkedList<String>(Arrays.asList(entry.getKey(), null)));
+            assertTrue(entry.getValue() instanceof CopyOnWriteArrayList);
+        }
+        assertEquals(Collections.singletonList("a"), map.get("a"));
+        assertTrue(map.get("a") instanceof CopyOnWriteArrayList);
+        assertTrue(map.get("b") instanceof CopyOnWriteArrayList);
+
+        assertEquals(2, map.values().size());
+        assertTrue(map.values().contains(Collections.singletonList("b")));
+        Iterator<List<String>> values = map.values().iterator();
+        values.next();
+        values.remove();
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        final ConcurrentMultivaluedMap<String, Integer> map = new ConcurrentMultivaluedMap<String, Integer>();
+        final int threads = 8;
+        final int perThread = 1000;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++) {
+                final int offset = t * perThread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        map.add("key", offset + i);
+                        if (i % 100 == 0) {
+                            map.remove("other");
+                        }
+                        map.add("other", i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * perThread, map.get("key").size());
+    }
+}
@@ -16,6 +16,7 @@
 
 package jakarta.ws.rs.core;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -57,4 +58,44 @@ public class CookieTest {
         assertTrue(newCookie.equals(newCookie1));
         assertFalse(newCookie.equals(newCookie2));
     }
+
+    /**
+     * Test that replacing the runtime delegate takes effect for cookie parsing.
+     */
+    @Test
+    public void testRuntimeDelegateReplacement() {
+        RuntimeDelegate.setInstance(new CookieRuntimeDelegate("first"));
+        assertEquals("first", Cookie.valueOf("a=b").getValue());
+
+        RuntimeDelegate.setInstance(new CookieRuntimeDelegate("second"));
+        assertEquals("second", Cookie.valueOf("a=b").getValue());
+    }
+
+    private static class CookieRuntimeDelegate extends RuntimeDelegateStub {
+
+        private final String value;
+
+        CookieRuntimeDelegate(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> HeaderDelegate<T> createHeaderDelegate(final Class<T> type) {
+            if (type != Cookie.class) {
+                return null;
+            }
+            return (HeaderDelegate<T>) new HeaderDelegate<Cookie>() {
+                @Override
+                public Cookie fromString(final String header) {
+                    return new Cookie("name", value);
+                }
+
+                @Override
+                public String toString(final Cookie cookie) {
+                    return cookie.getName() + "=" + cookie.getValue();
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * CopyOnWriteMultivaluedMap unit tests.
+ */
+public class CopyOnWriteMultivaluedMapTest {
+
+    private static MultivaluedHashMap<String, String> source() {
+        MultivaluedHashMap<String, String> source = new MultivaluedHashMap<String, String>();
+        source.addAll("Accept", "text/plain", "text/html");
+        source.add("Vary", "Accept");
+        return source;
+    }
+
+    @Test
+    public void testReadsShareSource() {
+        MultivaluedHashMap<String, String> source = source();
+        CopyOnWriteMultivaluedMap<String, String> view = new CopyOnWriteMultivaluedMap<String, String>(source);
+
+        assertEquals(source, view);
+        assertEquals(source.hashCode(), view.hashCode());
+        assertEquals("text/plain", view.getFirst("Accept"));
+        assertEquals(Arrays.asList("text/plain", "text/html"), view.get("Accept"));
+        assertTrue(view.equalsIgnoreValueOrder(source));
+        view.remove("Missing");
+        assertTrue(view.isShared());
+    }
+
+    @Test
+    public void testWritesCopyTouchedKeyOnly() {
+        MultivaluedHashMap<String, String> source = source();
+        List<String> vary = source.get("Vary");
+        CopyOnWriteMultivaluedMap<String, String> view = new CopyOnWriteMultivaluedMap<String, String>(source);
+
+        view.add("Accept", "*/*");
+        assertFalse(view.isShared());
+        assertEquals(Arrays.asList("text/plain", "text/html", "*/*"), view.get("Accept"));
+        assertEquals(Arrays.asList("text/plain", "text/html"), source.get("Accept"));
+
+        // the untouched list is still shared, but writes through its view are not
+        List<String> varyView = view.get("Vary");
+        assertEquals(vary, varyView);
+        varyView.add("Accept-Encoding");
+        assertEquals(Arrays.asList("Accept", "Accept-Encoding"), view.get("Vary"));
+        assertEquals(Arrays.asList("Accept"), source.get("Vary"));
+        assertSame(vary, source.get("Vary"));
+
+        view.putSingle("Accept", "application/json");
+        view.addFirst("Allow", "GET");
+        assertEquals(Arrays.asList("application/json"), view.get("Accept"));
+        assertEquals("GET", view.getFirst("Allow"));
+        assertNull(source.get("Allow"));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        MultivaluedHashMap<String, String> source = source();
+        CopyOnWriteMultivaluedMap<String, String> view = new CopyOnWriteMultivaluedMap<String, String>(source);
+
+        Iterator<String> it = view.keySet().iterator();
+        while (it.hasNext()) {
+            if ("Vary".equals(it.next())) {
+                it.remove();
+            }
+        }
+        assertFalse(view.containsKey("Vary"));
+        assertTrue(source.containsKey("Vary"));
+        assertEquals(1, view.size());
+    }
+
+    @Test
+    public void testCaseInsensitiveSource() {
+        HeaderMultivaluedMap<String> headers = new HeaderMultivaluedMap<String>();
+        headers.add("Content-Type", "text/plain");
+        CopyOnWriteMultivaluedMap<String, String> view = new CopyOnWriteMultivaluedMap<String, String>(headers.freeze());
+
+        view.add("content-type", "text/html");
+        assertEquals(1, view.size());
+        assertEquals(Arrays.asList("text/plain", "text/html"), view.get("CONTENT-TYPE"));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * FlatMultivaluedMap unit tests.
+ */
+public class FlatMultivaluedMapTest {
+
+    @Test
+    public void testMatchesHashMap() {
+        Random random = new Random(42);
+        FlatMultivaluedMap<Integer, String> flat = new FlatMultivaluedMap<Integer, String>();
+        MultivaluedHashMap<Integer, String> expected = new MultivaluedHashMap<Integer, String>();
+
+        for (int round = 0; round < 5000; round++) {
+            // keys sharing the low bits collide in the flat table
+            Integer key = random.nextInt(48) * 16;
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    flat.add(key, "v" + round);
+                    expected.add(key, "v" + round);
+                    break;
+                case 2:
+                    assertEquals(expected.remove(key), flat.remove(key));
+                    break;
+                default:
+                    Iterator<Integer> it = flat.keySet().iterator();
+                    while (it.hasNext()) {
+                        Integer next = it.next();
+                        if (random.nextInt(3) == 0) {
+                            it.remove();
+                            expected.remove(next);
+                        }
+                    }
+            }
+            assertEquals(expected, flat);
+            assertEquals(expected.hashCode(), flat.hashCode());
+        }
+        assertFalse(flat.isOverflowed());
+    }
+
+    @Test
+    public void testNullKeyAndEquality() {
+        FlatMultivaluedMap<String, String> flat = new FlatMultivaluedMap<String, String>(2);
+        flat.add(null, "a");
+        flat.add("Accept", "text/plain");
+        flat.add("Accept", "text/html");
+        assertEquals("a", flat.getFirst(null));
+        assertTrue(flat.containsKey(null));
+
+        MultivaluedHashMap<String, String> other = new MultivaluedHashMap<String, String>();
+        other.add("Accept", "text/html");
+        other.add("Accept", "text/plain");
+        other.add(null, "a");
+        assertFalse(flat.equals(other));
+        assertTrue(flat.equalsIgnoreValueOrder(other));
+
+        for (Map.Entry<String, List<String>> e : flat.entrySet()) {
+            e.setValue(Arrays.asList("b"));
+        }
+        assertEquals(Arrays.asList("b"), flat.get(null));
+        assertEquals(Arrays.asList("b"), flat.get("Accept"));
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        FlatMultivaluedMap<String, Integer> flat = new FlatMultivaluedMap<String, Integer>();
+        for (int i = 0; i < 100; i++) {
+            flat.add("X-" + i, i);
+        }
+        assertTrue(flat.isOverflowed());
+        assertEquals(100, flat.size());
+        assertEquals(Integer.valueOf(64), flat.getFirst("X-64"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(flat);
+        out.close();
+        Object copy = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertEquals(flat, copy);
+
+        flat.clear();
+        assertFalse(flat.isOverflowed());
+        assertNull(flat.get("X-1"));
+        flat.add("X-1", 1);
+        assertEquals(new FlatMultivaluedMap<String, Integer>(flat), flat);
+    }
+}
@@ -17,12 +17,16 @@
 package jakarta.ws.rs.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
@@ -124,6 +128,51 @@ public class GenericTypeTest {
         new GenericType<>(null);
     }
 
+    @Test
+    public void testRepeatedConstruction() {
+        Type first = null;
+        for (int i = 0; i < 3; i++) {
+            GenericType<List<String>> type = new GenericType<List<String>>() {
+            };
+            if (first == null) {
+                first = type.getType();
+            }
+            assertSame(first, type.getType());
+            assertEquals(List.class, type.getRawType());
+        }
+    }
+
+    private static class DeepSubclass1<K, V> extends ParameterizedSubclass2<K, Map<K, V>> {
+    }
+
+    private static class DeepSubclass2<V> extends DeepSubclass1<String, V> {
+    }
+
+    @Test
+    public void testDeepParameterizedHierarchy() {
+        for (int i = 0; i < 2; i++) {
+            GenericType<?> type = new DeepSubclass2<Integer>() {
+            };
+            assertEquals(Map.class, type.getRawType());
+            assertTrue(type.getType() instanceof ParameterizedType);
+        }
+    }
+
+    private static class UnresolvedSubclass<T> extends GenericType<T> {
+    }
+
+    @Test
+    public void testUnresolvedTypeFailsRepeatedly() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                new UnresolvedSubclass<String>();
+                fail("IllegalArgumentException expected.");
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+
     // Regression test for JAX_RS_SPEC-274
     @Test
     public void testGenericTypeOfNonGenericArray() {
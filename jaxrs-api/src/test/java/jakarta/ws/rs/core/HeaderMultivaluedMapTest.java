@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * HeaderMultivaluedMap unit tests.
+ */
+public class HeaderMultivaluedMapTest {
+
+    @Test
+    public void testCaseInsensitiveNames() {
+        HeaderMultivaluedMap<String> headers = new HeaderMultivaluedMap<String>();
+        headers.add("Content-Type", "text/plain");
+        headers.add("content-type", "text/html");
+
+        assertEquals(1, headers.size());
+        assertEquals(Arrays.asList("text/plain", "text/html"), headers.get(HttpHeaders.CONTENT_TYPE));
+        assertEquals("text/plain", headers.getFirst("CONTENT-TYPE"));
+        assertTrue(headers.containsKey("cOnTeNt-TyPe"));
+        assertEquals("Content-Type", headers.keySet().iterator().next());
+
+        assertFalse(headers.containsKey("Content-Typf"));
+        assertFalse(headers.containsKey("Content-Type "));
+        // '@' and '`' differ in the same bit as upper and lower case letters
+        headers.add("a@", "x");
+        assertFalse(headers.containsKey("a`"));
+    }
+
+    @Test
+    public void testEqualsAndHashCodeIgnoreCase() {
+        HeaderMultivaluedMap<String> first = new HeaderMultivaluedMap<String>();
+        first.add("Content-Type", "text/plain");
+        first.add("Vary", "Accept");
+        HeaderMultivaluedMap<String> second = new HeaderMultivaluedMap<String>();
+        second.add("content-type", "text/plain");
+        second.add("VARY", "Accept");
+        assertEquals(first, second);
+        assertEquals(second, first);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(ImmutableMultivaluedMap.copyOf(first).hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        HeaderMultivaluedMap<String> headers = new HeaderMultivaluedMap<String>(2);
+        List<String> names = new ArrayList<String>();
+        for (int i = 0; i < 50; i++) {
+            names.add("X-Header-" + i);
+            headers.putSingle("X-Header-" + i, Integer.toString(i));
+        }
+        assertEquals(names, new ArrayList<String>(headers.keySet()));
+
+        headers.remove("x-header-10");
+        names.remove("X-Header-10");
+        Iterator<String> it = headers.keySet().iterator();
+        it.next();
+        it.remove();
+        names.remove(0);
+        assertEquals(names, new ArrayList<String>(headers.keySet()));
+        assertNull(headers.get("X-Header-0"));
+        assertEquals("49", headers.getFirst("x-header-49"));
+    }
+
+    @Test
+    public void testCopyAndSerialization() throws Exception {
+        MultivaluedHashMap<String, String> source = new MultivaluedHashMap<String, String>();
+        source.add("Accept", "text/plain");
+        source.add("Vary", "Accept");
+        HeaderMultivaluedMap<String> headers = new HeaderMultivaluedMap<String>(source);
+        headers.add("ACCEPT", "text/html");
+        assertEquals(Arrays.asList("text/plain"), source.get("Accept"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(headers);
+        out.close();
+        @SuppressWarnings("unchecked")
+        HeaderMultivaluedMap<String> copy = (HeaderMultivaluedMap<String>) new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        assertEquals(headers, copy);
+        assertEquals(Arrays.asList("text/plain", "text/html"), copy.get("accept"));
+        copy.add("x-new", "1");
+        assertEquals("1", copy.getFirst("X-New"));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * ImmutableMultivaluedMap unit tests.
+ */
+public class ImmutableMultivaluedMapTest {
+
+    @Test
+    public void testSnapshot() {
+        MultivaluedHashMap<String, String> source = new MultivaluedHashMap<String, String>();
+        source.add("Accept", "text/plain");
+        source.add("Accept", "text/html");
+        source.add("Vary", "Accept");
+
+        MultivaluedMap<String, String> frozen = source.freeze();
+        source.add("Accept", "*/*");
+        source.remove("Vary");
+
+        assertEquals(Arrays.asList("text/plain", "text/html"), frozen.get("Accept"));
+        assertEquals("Accept", frozen.getFirst("Vary"));
+        assertSame(frozen, frozen.freeze());
+        assertSame(frozen, ImmutableMultivaluedMap.copyOf(frozen));
+        assertSame(ImmutableMultivaluedMap.empty(), new MultivaluedHashMap<String, String>().freeze());
+
+        MultivaluedHashMap<String, String> copy = new MultivaluedHashMap<String, String>(frozen);
+        assertEquals(frozen, copy);
+        assertEquals(copy.hashCode(), frozen.hashCode());
+    }
+
+    @Test
+    public void testReadOnly() {
+        MultivaluedHashMap<String, String> source = new MultivaluedHashMap<String, String>();
+        source.add("Accept", "text/plain");
+        source.add("Accept", "text/html");
+        MultivaluedMap<String, String> frozen = source.freeze();
+
+        try {
+            frozen.add("Accept", "*/*");
+            fail("UnsupportedOperationException expected.");
+        } catch (UnsupportedOperationException expected) {
+            // passed
+        }
+        try {
+            frozen.putSingle("Vary", "Accept");
+            fail("UnsupportedOperationException expected.");
+        } catch (UnsupportedOperationException expected) {
+            // passed
+        }
+        try {
+            List<String> values = frozen.get("Accept");
+            values.set(0, "*/*");
+            fail("UnsupportedOperationException expected.");
+        } catch (UnsupportedOperationException expected) {
+            // passed
+        }
+        assertEquals(Arrays.asList("text/plain", "text/html"), frozen.get("Accept"));
+    }
+
+    @Test
+    public void testHeaderMapSnapshot() {
+        HeaderMultivaluedMap<String> headers = new HeaderMultivaluedMap<String>();
+        headers.add("Content-Type", "text/plain");
+        MultivaluedMap<String, String> frozen = headers.freeze();
+        assertEquals("text/plain", frozen.getFirst("content-type"));
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+/**
+ * {@link MediaTypeCache} unit test.
+ */
+public class MediaTypeCacheTest {
+
+    @Before
+    public void setUp() {
+        RuntimeDelegate.setInstance(new ParsingRuntimeDelegate());
+    }
+
+    @After
+    public void tearDown() {
+        RuntimeDelegate.setInstance(null);
+    }
+
+    @Test
+    public void testRepeatedLookupReturnsSharedInstance() {
+        MediaTypeCache cache = new MediaTypeCache(4);
+
+        MediaType first = cache.valueOf("application/vnd.test+json");
+        MediaType second = cache.valueOf("application/vnd.test+json");
+
+        assertSame(first, second);
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        MediaTypeCache cache = new MediaTypeCache(2);
+
+        MediaType first = cache.valueOf("text/a");
+        cache.valueOf("text/b");
+        cache.valueOf("text/c");
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.evictionCount());
+        assertNotSame(first, cache.valueOf("text/a"));
+        assertEquals(2, cache.size());
+
+        for (int i = 0; i < 100; i++) {
+            cache.valueOf("text/x" + i);
+            assertTrue(cache.size() <= 2);
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        MediaTypeCache cache = new MediaTypeCache(1);
+        cache.valueOf("text/a");
+        cache.valueOf("text/a");
+        cache.valueOf("text/b");
+
+        CacheStatistics statistics = cache.statistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(2, statistics.getMissCount());
+        assertEquals(1, statistics.getEvictionCount());
+        assertEquals(1, statistics.getSize());
+        assertEquals(1, statistics.getMaxSize());
+        assertNotNull(MediaType.getCacheStatistics());
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysParses() {
+        MediaTypeCache cache = new MediaTypeCache(0);
+
+        assertNotSame(cache.valueOf("text/a"), cache.valueOf("text/a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEntriesAreKeptPerDelegate() {
+        MediaTypeCache cache = new MediaTypeCache(4);
+        ParsingRuntimeDelegate original = new ParsingRuntimeDelegate();
+        RuntimeDelegate.setInstance(original);
+
+        MediaType first = cache.valueOf("text/a");
+        RuntimeDelegate.setInstance(new ParsingRuntimeDelegate());
+        assertNotSame(first, cache.valueOf("text/a"));
+        assertEquals(2, cache.missCount());
+
+        RuntimeDelegate.setInstance(original);
+        assertSame(first, cache.valueOf("text/a"));
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    public void testScopedDelegatesDoNotEvictEachOther() {
+        RuntimeDelegate.setInstance(null);
+        ClassLoader first = new ClassLoader() {
+        };
+        ClassLoader second = new ClassLoader() {
+        };
+        RuntimeDelegate.setInstance(first, new ParsingRuntimeDelegate());
+        RuntimeDelegate.setInstance(second, new ParsingRuntimeDelegate());
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try {
+            MediaTypeCache cache = new MediaTypeCache(4);
+            for (int i = 0; i < 100; i++) {
+                thread.setContextClassLoader(i % 2 == 0 ? first : second);
+                cache.valueOf("text/a");
+            }
+            assertEquals(2, cache.missCount());
+            assertEquals(98, cache.hitCount());
+            assertEquals(2, cache.size());
+        } finally {
+            thread.setContextClassLoader(original);
+            RuntimeDelegate.setInstance(first, null);
+            RuntimeDelegate.setInstance(second, null);
+        }
+    }
+
+    /**
+     * Runtime delegate stub providing a trivial {@code type/subtype} media type parser.
+     */
+    static class ParsingRuntimeDelegate extends RuntimeDelegateStub {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> HeaderDelegate<T> createHeaderDelegate(final Class<T> type) {
+            if (type != MediaType.class) {
+                return null;
+            }
+            return (HeaderDelegate<T>) new HeaderDelegate<MediaType>() {
+
+                @Override
+                public MediaType fromString(final String value) {
+                    if (value == null) {
+                        throw new IllegalArgumentException("value==null");
+                    }
+                    int slash = value.indexOf('/');
+                    return new MediaType(value.substring(0, slash), value.substring(slash + 1));
+                }
+
+                @Override
+                public String toString(final MediaType value) {
+                    return value.getType() + '/' + value.getSubtype();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * {@link MediaTypeNegotiator} unit test.
+ */
+public class MediaTypeNegotiatorTest {
+
+    private static final MediaTypeNegotiator JSON_OR_XML = new MediaTypeNegotiator(
+            Arrays.asList(MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_XML_TYPE));
+
+    @Test
+    public void testBrowserAcceptHeaderSelectsQualityPreferredType() {
+        // text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8
+        List<MediaType> accept = Arrays.asList(
+                MediaType.TEXT_HTML_TYPE,
+                MediaType.APPLICATION_XHTML_XML_TYPE,
+                withQuality(MediaType.APPLICATION_XML_TYPE, "0.9"),
+                withQuality(MediaType.WILDCARD_TYPE, "0.8"));
+
+        assertSame(MediaType.APPLICATION_XML_TYPE, JSON_OR_XML.select(accept));
+    }
+
+    @Test
+    public void testMoreSpecificRangeDeterminesQuality() {
+        List<MediaType> accept = Arrays.asList(
+                withQuality(new MediaType("application", "*"), "0.5"),
+                withQuality(MediaType.APPLICATION_XML_TYPE, "0"),
+                MediaType.WILDCARD_TYPE);
+
+        assertSame(MediaType.APPLICATION_JSON_TYPE, JSON_OR_XML.select(accept));
+    }
+
+    @Test
+    public void testProducedOrderBreaksTies() {
+        assertSame(MediaType.APPLICATION_JSON_TYPE,
+                JSON_OR_XML.select(Collections.singletonList(MediaType.WILDCARD_TYPE)));
+        assertSame(MediaType.APPLICATION_JSON_TYPE, JSON_OR_XML.select(null));
+    }
+
+    @Test
+    public void testNoAcceptableType() {
+        assertNull(JSON_OR_XML.select(Collections.singletonList(MediaType.TEXT_HTML_TYPE)));
+    }
+
+    @Test
+    public void testWildcardProducedTypeIsNarrowedToMediaRange() {
+        MediaTypeNegotiator negotiator = new MediaTypeNegotiator(Collections.singletonList(new MediaType("text", "*")));
+
+        assertEquals(MediaType.TEXT_PLAIN_TYPE,
+                negotiator.select(Arrays.asList(MediaType.APPLICATION_JSON_TYPE, MediaType.TEXT_PLAIN_TYPE)));
+    }
+
+    @Test
+    public void testParseQuality() {
+        assertEquals(1, MediaTypeNegotiator.parseQuality(null), 0);
+        assertEquals(1, MediaTypeNegotiator.parseQuality("1"), 0);
+        assertEquals(1, MediaTypeNegotiator.parseQuality("1.000"), 0);
+        assertEquals(0, MediaTypeNegotiator.parseQuality("0"), 0);
+        assertEquals(0, MediaTypeNegotiator.parseQuality("0."), 0);
+        assertEquals(0.5, MediaTypeNegotiator.parseQuality(" 0.5 "), 0);
+        assertEquals(0.123, MediaTypeNegotiator.parseQuality("0.123"), 0);
+    }
+
+    @Test
+    public void testMalformedQualityIsTreatedAsOne() {
+        for (String q : Arrays.asList("NaN", "Infinity", "-0.5", "1e0", "0x1p-1", "0.1234", ".5", "0,5", "", "2")) {
+            assertEquals(q, 1, MediaTypeNegotiator.parseQuality(q), 0);
+        }
+    }
+
+    @Test
+    public void testNaNQualityDoesNotAffectOrdering() {
+        List<MediaType> accept = Arrays.asList(
+                withQuality(MediaType.APPLICATION_JSON_TYPE, "0.5"),
+                withQuality(MediaType.APPLICATION_XML_TYPE, "NaN"));
+
+        assertSame(MediaType.APPLICATION_XML_TYPE, JSON_OR_XML.select(accept));
+    }
+
+    private static MediaType withQuality(final MediaType mediaType, final String quality) {
+        return new MediaType(mediaType.getType(), mediaType.getSubtype(), Collections.singletonMap("q", quality));
+    }
+}
@@ -18,6 +18,9 @@ package jakarta.ws.rs.core;
 
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.Assert.assertThat;
 
 import org.hamcrest.Description;
@@ -25,7 +28,14 @@ import org.hamcrest.DiagnosingMatcher;
 import org.hamcrest.Matcher;
 import org.junit.Test;
 
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * {@link MediaType} unit test.
@@ -49,6 +59,35 @@ public class MediaTypeTest {
                         .getParameters().get(MediaType.CHARSET_PARAMETER));
     }
 
+    /**
+     * Test that the parameter map is case-insensitive, immutable and keeps the {@link java.util.Map} contract.
+     */
+    @Test
+    public void testParameters() {
+        Map<String, String> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        expected.put("level", "1");
+        expected.put("charset", "UTF-8");
+
+        Map<String, String> initial = new HashMap<>();
+        initial.put("Level", "1");
+        MediaType actual = new MediaType("text", "html", initial).withCharset("UTF-8");
+
+        assertEquals(expected, actual.getParameters());
+        assertEquals(actual.getParameters(), expected);
+        assertEquals(expected.hashCode(), actual.getParameters().hashCode());
+        assertEquals("1", actual.getParameters().get("LEVEL"));
+        assertEquals("[charset, level]", actual.getParameters().keySet().toString());
+        assertEquals(new MediaType("text", "html", expected), actual);
+        assertTrue(MediaType.TEXT_HTML_TYPE.getParameters().isEmpty());
+
+        try {
+            actual.getParameters().put("q", "0.5");
+            fail("UnsupportedOperationException expected.");
+        } catch (UnsupportedOperationException expectedException) {
+            // passed
+        }
+    }
+
     /**
      * Test that passing {@code null} values to {@link MediaType} constructor does not throw a {@link NullPointerException}
      * and produces expected result.
@@ -64,6 +103,75 @@ public class MediaTypeTest {
         assertEquals(MediaType.WILDCARD_TYPE, actual);
     }
 
+    /**
+     * Test that well-known media type strings resolve to the shared constants without consulting the runtime delegate.
+     */
+    @Test
+    public void testValueOfResolvesWellKnownConstants() {
+        assertSame(MediaType.APPLICATION_JSON_TYPE, MediaType.valueOf(MediaType.APPLICATION_JSON));
+        assertSame(MediaType.SERVER_SENT_EVENTS_TYPE, MediaType.valueOf(MediaType.SERVER_SENT_EVENTS));
+        assertSame(MediaType.valueOf("text/plain;charset=UTF-8"), MediaType.valueOf("text/plain; charset=UTF-8"));
+        assertEquals(MediaType.TEXT_PLAIN_TYPE.withCharset("UTF-8"), MediaType.valueOf("text/plain;charset=UTF-8"));
+        assertEquals(MediaType.TEXT_PLAIN_TYPE.withCharset("utf-8"), MediaType.valueOf("text/plain;charset=utf-8"));
+    }
+
+    /**
+     * Test that the header value is memoized and exposed as read-only US-ASCII bytes.
+     */
+    @Test
+    public void testEncodedHeaderValue() {
+        RuntimeDelegate.setInstance(new MediaTypeCacheTest.ParsingRuntimeDelegate());
+        try {
+            MediaType mediaType = new MediaType("application", "vnd.test+json");
+            ByteBuffer encoded = mediaType.getEncodedHeaderValue();
+
+            assertSame(mediaType.toString(), mediaType.toString());
+            assertTrue(encoded.isReadOnly());
+            assertEquals("application/vnd.test+json", StandardCharsets.US_ASCII.decode(encoded).toString());
+            assertEquals(0, mediaType.getEncodedHeaderValue().position());
+        } finally {
+            RuntimeDelegate.setInstance(null);
+        }
+    }
+
+    /**
+     * Test that the memoized header value is recomputed when the runtime delegate is replaced.
+     */
+    @Test
+    public void testHeaderValueFollowsRuntimeDelegate() {
+        RuntimeDelegate.setInstance(new MediaTypeCacheTest.ParsingRuntimeDelegate());
+        try {
+            MediaType mediaType = new MediaType("application", "vnd.test+json");
+            assertEquals("application/vnd.test+json", mediaType.toString());
+
+            RuntimeDelegate.setInstance(new MediaTypeCacheTest.ParsingRuntimeDelegate() {
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public <T> HeaderDelegate<T> createHeaderDelegate(final Class<T> type) {
+                    final HeaderDelegate<T> parsing = super.createHeaderDelegate(type);
+                    return parsing == null ? null : (HeaderDelegate<T>) new HeaderDelegate<MediaType>() {
+
+                        @Override
+                        public MediaType fromString(final String value) {
+                            return (MediaType) parsing.fromString(value);
+                        }
+
+                        @Override
+                        public String toString(final MediaType value) {
+                            return parsing.toString((T) value).toUpperCase(Locale.ROOT);
+                        }
+                    };
+                }
+            });
+            assertEquals("APPLICATION/VND.TEST+JSON", mediaType.toString());
+            assertEquals("APPLICATION/VND.TEST+JSON",
+                    StandardCharsets.US_ASCII.decode(mediaType.getEncodedHeaderValue()).toString());
+        } finally {
+            RuntimeDelegate.setInstance(null);
+        }
+    }
+
     @Test
     public void testMediaTypeWithWildcardTypeNotCompatibleWhenSubtypeDifferent() {
         MediaType anyJson = new MediaType(MediaType.MEDIA_TYPE_WILDCARD, "json");
@@ -125,6 +233,16 @@ public class MediaTypeTest {
         assertThat(MediaType.TEXT_XML_TYPE, not(isCompatibleWith(MediaType.APPLICATION_JSON_TYPE)));
     }
 
+    @Test
+    public void testMediaTypeComparisonIgnoresCase() {
+        MediaType upperCase = new MediaType("APPLICATION", "Json");
+
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, upperCase);
+        assertEquals(MediaType.APPLICATION_JSON_TYPE.hashCode(), upperCase.hashCode());
+        assertThat(upperCase, isCompatibleWith(MediaType.APPLICATION_JSON_TYPE));
+        assertEquals("APPLICATION", upperCase.getType());
+    }
+
     @Test
     public void testMediaTypeNotCompatibleWithNull() {
         assertThat(MediaType.APPLICATION_JSON_TYPE, not(isCompatibleWith(null)));
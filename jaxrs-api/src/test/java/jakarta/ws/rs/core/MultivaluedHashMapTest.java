@@ -25,6 +25,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
 
 import org.junit.After;
 import org.junit.Before;
@@ -122,4 +124,28 @@ public class MultivaluedHashMapTest {
         }
 
     }
+
+    @Test
+    public void testSerializedValuesAreLinkedLists() throws IOException, ClassNotFoundException {
+        MultivaluedHashMap<String, String> mvm = new MultivaluedHashMap<String, String>();
+        mvm.add("single", "value");
+        mvm.addAll("multiple", "bar1", "bar2");
+
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ObjectOutputStream objOut = new ObjectOutputStream(out)) {
+
+            objOut.writeObject(mvm);
+            assertFalse(new String(out.toByteArray(), StandardCharsets.ISO_8859_1).contains("ValueList"));
+
+            try (ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+                    ObjectInputStream objIn = new ObjectInputStream(in)) {
+
+                @SuppressWarnings("unchecked")
+                MultivaluedHashMap<String, String> read = (MultivaluedHashMap<String, String>) objIn.readObject();
+                assertEquals(LinkedList.class, read.get("single").getClass());
+                assertEquals(LinkedList.class, read.get("multiple").getClass());
+                assertEquals(mvm, read);
+            }
+        }
+    }
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Checks the default implementations of {@link Response.ResponseBuilder#reset()} and
+ * {@link Response.ResponseBuilder#from(ResponseTemplate)}.
+ */
+public class ResponseBuilderTest {
+
+    private static final Integer RETRY_AFTER = 3600;
+
+    @Test
+    public void testReset() {
+        RecordingBuilder builder = new RecordingBuilder();
+        builder.status(404).entity("missing", new Annotation[1]).header("Vary", "Accept");
+
+        assertSame(builder, builder.reset());
+        assertEquals(200, builder.status);
+        assertNull(builder.entity);
+        assertEquals(0, builder.annotations.length);
+        assertTrue(builder.headers.isEmpty());
+    }
+
+    @Test
+    public void testFromTemplate() {
+        ResponseTemplate template = ResponseTemplate.of(Response.Status.TOO_MANY_REQUESTS);
+
+        RecordingBuilder builder = new RecordingBuilder();
+        builder.header("ETag", "\"1\"");
+        builder.from(template);
+        assertEquals(429, builder.status);
+        assertNull(builder.entity);
+        assertTrue(builder.headers.isEmpty());
+    }
+
+    @Test
+    public void testFromTemplateCopiesHeaders() {
+        RecordingBuilder builder = new RecordingBuilder();
+        ResponseTemplate template = templateWithHeaders();
+
+        builder.from(template);
+        assertEquals(201, builder.status);
+        assertEquals("created", builder.entity);
+        assertArrayEquals(new Annotation[0], builder.annotations);
+        assertSame(RETRY_AFTER, builder.headers.getFirst("retry-after"));
+
+        builder.headers.add("Vary", "Accept");
+        assertNotSame(template.getHeaders(), builder.headers);
+        assertEquals(1, template.getHeaders().get("Vary").size());
+    }
+
+    private static ResponseTemplate templateWithHeaders() {
+        RecordingBuilder source = new RecordingBuilder();
+        source.status(201).entity("created").header(HttpHeaders.RETRY_AFTER, RETRY_AFTER);
+        source.header("Vary", "Accept-Encoding");
+        return source.buildTemplate();
+    }
+
+    /**
+     * Builder recording the status, entity and headers it has been given.
+     */
+    private static class RecordingBuilder extends Response.ResponseBuilder {
+
+        private int status = 200;
+        private Object entity;
+        private Annotation[] annotations;
+        private MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+        @Override
+        public Response build() {
+            final Object built = entity;
+            final MultivaluedMap<String, Object> builtHeaders = headers;
+            final int builtStatus = status;
+            reset();
+            return new ResponseTemplateTest.SourceResponse(builtStatus, built) {
+                @Override
+                public MultivaluedMap<String, Object> getMetadata() {
+                    return builtHeaders;
+                }
+            };
+        }
+
+        @Override
+        public Response.ResponseBuilder clone() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder status(final int status) {
+            this.status = status;
+            return this;
+        }
+
+        @Override
+        public Response.ResponseBuilder status(final int status, final String reasonPhrase) {
+            this.status = status;
+            return this;
+        }
+
+        @Override
+        public Response.ResponseBuilder entity(final Object entity) {
+            this.entity = entity;
+            return this;
+        }
+
+        @Override
+        public Response.ResponseBuilder entity(final Object entity, final Annotation[] annotations) {
+            this.entity = entity;
+            this.annotations = annotations;
+            return this;
+        }
+
+        @Override
+        public Response.ResponseBuilder allow(final String... methods) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder allow(final Set<String> methods) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder cacheControl(final CacheControl cacheControl) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder encoding(final String encoding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder header(final String name, final Object value) {
+            headers.add(name, value);
+            return this;
+        }
+
+        @Override
+        public Response.ResponseBuilder replaceAll(final MultivaluedMap<String, Object> headers) {
+            this.headers = headers == null
+                    ? new MultivaluedHashMap<String, Object>()
+                    : new HeaderMultivaluedMap<Object>(headers);
+            return this;
+        }
+
+        @Override
+        public Response.ResponseBuilder language(final String language) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder language(final Locale language) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder type(final MediaType type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder type(final String type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder variant(final Variant variant) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder contentLocation(final URI location) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder cookie(final NewCookie... cookies) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder expires(final Date expires) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder lastModified(final Date lastModified) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder location(final URI location) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder tag(final EntityTag tag) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder tag(final String tag) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder variants(final Variant... variants) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder variants(final List<Variant> variants) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder links(final Link... links) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder link(final URI uri, final String rel) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder link(final String uri, final String rel) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.Response.Status.Family;
+import jakarta.ws.rs.core.Response.StatusType;
+
+import org.junit.Test;
+
+/**
+ * Response.Status and StatusType lookup unit tests.
+ */
+public class ResponseStatusTest {
+
+    @Test
+    public void testFromStatusCode() {
+        for (Status status : Status.values()) {
+            assertSame(status, Status.fromStatusCode(status.getStatusCode()));
+            assertSame(status, StatusType.of(status.getStatusCode()));
+        }
+        assertNull(Status.fromStatusCode(99));
+        assertNull(Status.fromStatusCode(422));
+        assertNull(Status.fromStatusCode(600));
+        assertNull(Status.fromStatusCode(-1));
+    }
+
+    @Test
+    public void testSharedCustomStatus() {
+        StatusType unprocessable = StatusType.of(422);
+        assertSame(unprocessable, StatusType.of(422));
+        assertSame(unprocessable, StatusType.of(422, "Unprocessable Entity"));
+        assertEquals("Unprocessable Entity", unprocessable.getReasonPhrase());
+        assertEquals(Family.CLIENT_ERROR, unprocessable.getFamily());
+        assertNull(unprocessable.toEnum());
+
+        StatusType custom = StatusType.of(422, "Invalid Order");
+        assertEquals(422, custom.getStatusCode());
+        assertEquals("Invalid Order", custom.getReasonPhrase());
+
+        assertEquals(Family.OTHER, StatusType.of(999).getFamily());
+    }
+
+    @Test
+    public void testRegister() {
+        StatusType registered = StatusType.register(599, "Network Connect Timeout Error");
+        assertSame(registered, StatusType.of(599));
+        assertEquals(Family.SERVER_ERROR, registered.getFamily());
+        try {
+            StatusType.register(404, "Gone Fishing");
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException expected) {
+            // passed
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * {@link ResponseTemplate} unit tests.
+ */
+public class ResponseTemplateTest {
+
+    @Test
+    public void testStatusTemplate() {
+        ResponseTemplate template = ResponseTemplate.of(Response.Status.NO_CONTENT);
+        Response response = template.newResponse();
+        assertSame(Response.Status.NO_CONTENT, response.getStatusInfo());
+        assertFalse(response.hasEntity());
+        assertTrue(response.getMetadata().isEmpty());
+        assertNull(response.getHeaderString(HttpHeaders.CONTENT_TYPE));
+        assertNull(response.getDate());
+        assertEquals(-1, response.getLength());
+    }
+
+    @Test
+    public void testCapturedHeaders() {
+        SourceResponse source = new SourceResponse(429, "Too many requests.");
+        source.headers.add("Retry-After", 120);
+        source.headers.add("Vary", "Accept");
+        source.headers.add("Vary", "Accept-Encoding");
+        source.mediaType = MediaType.TEXT_PLAIN_TYPE;
+        ResponseTemplate template = ResponseTemplate.of(source);
+        source.headers.clear();
+
+        Response response = template.newResponse();
+        assertEquals(429, response.getStatus());
+        assertEquals("Too many requests.", response.getEntity());
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, response.getMediaType());
+        assertEquals(120, response.getMetadata().getFirst("retry-after"));
+        assertEquals("120", response.getStringHeaders().getFirst("RETRY-AFTER"));
+        assertEquals("Accept,Accept-Encoding", response.getHeaderString("vary"));
+        assertSame(template.getHeaders(), response.getMetadata());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutableHeaders() {
+        SourceResponse source = new SourceResponse(204, null);
+        source.headers.add("Cache-Control", "no-store");
+        ResponseTemplate.of(source).newResponse().getMetadata().add("Cache-Control", "private");
+    }
+
+    @Test
+    public void testResponsesAreIndependent() {
+        ResponseTemplate template = ResponseTemplate.of(new SourceResponse(200, "ok"));
+        Response first = template.newResponse();
+        Response second = template.newResponse();
+        assertNotSame(first, second);
+
+        first.close();
+        try {
+            first.getEntity();
+            fail("IllegalStateException expected.");
+        } catch (IllegalStateException expected) {
+            // expected
+        }
+        assertEquals("ok", second.getEntity());
+        assertTrue(second.hasEntity());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReadEntity() {
+        ResponseTemplate.of(new SourceResponse(200, "ok")).newResponse().readEntity(String.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInputStreamEntity() {
+        ResponseTemplate.of(new SourceResponse(200, new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    public void testDate() {
+        SourceResponse source = new SourceResponse(200, null);
+        source.date = new Date(1000);
+        Response response = ResponseTemplate.of(source).newResponse();
+        response.getDate().setTime(2000);
+        assertEquals(new Date(1000), response.getDate());
+
+        source.date.setTime(3000);
+        assertEquals(new Date(1000), response.getDate());
+    }
+
+    @Test
+    public void testDateBeforeEpoch() {
+        SourceResponse source = new SourceResponse(200, null);
+        source.date = new Date(-86400000L);
+        assertEquals(new Date(-86400000L), ResponseTemplate.of(source).newResponse().getDate());
+    }
+
+    @Test
+    public void testSharedStatusTemplates() {
+        assertSame(ResponseTemplate.of(Response.Status.NOT_FOUND), ResponseTemplate.of(Response.Status.NOT_FOUND));
+        assertSame(ResponseTemplate.of(Response.StatusType.of(429)), ResponseTemplate.of(Response.StatusType.of(429)));
+        assertSame(ResponseTemplate.of(Response.Status.GONE), ResponseTemplate.of(Response.StatusType.of(410)));
+    }
+
+    @Test
+    public void testCustomStatusTemplate() {
+        Response.StatusType custom = Response.StatusType.of(404, "No Such Thing");
+        ResponseTemplate template = ResponseTemplate.of(custom);
+        assertNotSame(ResponseTemplate.of(Response.Status.NOT_FOUND), template);
+        assertSame(custom, template.newResponse().getStatusInfo());
+        assertEquals(799, ResponseTemplate.of(Response.StatusType.of(799)).newResponse().getStatus());
+    }
+
+    /**
+     * Minimal outbound response used as the source of templates.
+     */
+    static class SourceResponse extends Response {
+
+        private final int status;
+        private final Object entity;
+        private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+        private MediaType mediaType;
+        private Date date;
+
+        SourceResponse(final int status, final Object entity) {
+            this.status = status;
+            this.entity = entity;
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public StatusType getStatusInfo() {
+            return StatusType.of(status);
+        }
+
+        @Override
+        public Object getEntity() {
+            return entity;
+        }
+
+        @Override
+        public <T> T readEntity(final Class<T> entityType) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public <T> T readEntity(final GenericType<T> entityType) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public <T> T readEntity(final Class<T> entityType, final Annotation[] annotations) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public <T> T readEntity(final GenericType<T> entityType, final Annotation[] annotations) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public boolean hasEntity() {
+            return entity != null;
+        }
+
+        @Override
+        public boolean bufferEntity() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        @Override
+        public Locale getLanguage() {
+            return null;
+        }
+
+        @Override
+        public int getLength() {
+            return -1;
+        }
+
+        @Override
+        public Set<String> getAllowedMethods() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Map<String, NewCookie> getCookies() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public EntityTag getEntityTag() {
+            return null;
+        }
+
+        @Override
+        public Date getDate() {
+            return date;
+        }
+
+        @Override
+        public Date getLastModified() {
+            return null;
+        }
+
+        @Override
+        public URI getLocation() {
+            return null;
+        }
+
+        @Override
+        public Set<Link> getLinks() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean hasLink(final String relation) {
+            return false;
+        }
+
+        @Override
+        public Link getLink(final String relation) {
+            return null;
+        }
+
+        @Override
+        public Link.Builder getLinkBuilder(final String relation) {
+            return null;
+        }
+
+        @Override
+        public MultivaluedMap<String, Object> getMetadata() {
+            return headers;
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getStringHeaders() {
+            MultivaluedMap<String, String> strings = new MultivaluedHashMap<>();
+            for (Map.Entry<String, List<Object>> e : getMetadata().entrySet()) {
+                for (Object value : e.getValue()) {
+                    strings.add(e.getKey(), String.valueOf(value));
+                }
+            }
+            return strings;
+        }
+
+        @Override
+        public String getHeaderString(final String name) {
+            return null;
+        }
+    }
+}
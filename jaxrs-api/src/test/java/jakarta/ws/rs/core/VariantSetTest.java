@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * {@link VariantSet} unit test.
+ */
+public class VariantSetTest {
+
+    private static final Variant JSON_EN = new Variant(MediaType.APPLICATION_JSON_TYPE, Locale.ENGLISH, null);
+    private static final Variant JSON_DE = new Variant(MediaType.APPLICATION_JSON_TYPE, Locale.GERMAN, null);
+    private static final Variant XML_EN_GZIP = new Variant(MediaType.APPLICATION_XML_TYPE, Locale.ENGLISH, "gzip");
+
+    private static final VariantSet VARIANTS = new VariantSet(Arrays.asList(JSON_EN, JSON_DE, XML_EN_GZIP));
+
+    @Test
+    public void testVaryHeader() {
+        assertEquals("Accept, Accept-Language, Accept-Encoding", VARIANTS.getVaryHeader());
+        assertEquals("Accept-Language", new VariantSet(Arrays.asList(JSON_EN, JSON_DE)).getVaryHeader());
+        assertNull(new VariantSet(Collections.singletonList(JSON_EN)).getVaryHeader());
+    }
+
+    @Test
+    public void testMediaTypeTakesPrecedence() {
+        List<MediaType> accept = Arrays.asList(MediaType.APPLICATION_XML_TYPE,
+                new MediaType("application", "json", Collections.singletonMap("q", "0.5")));
+
+        assertSame(XML_EN_GZIP, VARIANTS.select(accept, Arrays.asList(Locale.GERMAN, Locale.ENGLISH), null));
+    }
+
+    @Test
+    public void testLanguagePreference() {
+        List<Locale> languages = Arrays.asList(Locale.GERMANY, Locale.GERMAN, Locale.ENGLISH);
+
+        assertSame(JSON_DE, VARIANTS.select(Collections.singletonList(MediaType.APPLICATION_JSON_TYPE), languages, null));
+        assertSame(JSON_EN, VARIANTS.select(null, Collections.singletonList(Locale.US), null));
+        assertSame(JSON_EN, VARIANTS.select(null, Collections.singletonList(new Locale("*")), null));
+    }
+
+    @Test
+    public void testEncodingQuality() {
+        List<MediaType> accept = Collections.singletonList(MediaType.APPLICATION_XML_TYPE);
+
+        assertSame(XML_EN_GZIP, VARIANTS.select(accept, null, Arrays.asList("deflate", "gzip;q=0.5")));
+        assertNull(VARIANTS.select(accept, null, Arrays.asList("deflate", "*;q=0")));
+    }
+
+    @Test
+    public void testIdentityEncodingIsAcceptableByDefault() {
+        Variant identity = new Variant(MediaType.TEXT_PLAIN_TYPE, (Locale) null, "identity");
+        Variant gzip = new Variant(MediaType.TEXT_PLAIN_TYPE, (Locale) null, "gzip");
+        VariantSet identityOnly = new VariantSet(Collections.singletonList(identity));
+        VariantSet both = new VariantSet(Arrays.asList(identity, gzip));
+
+        assertSame(identity, identityOnly.select(null, null, Collections.singletonList("gzip")));
+        assertSame(gzip, both.select(null, null, Collections.singletonList("gzip")));
+        assertSame(identity, both.select(null, null, Arrays.asList("gzip;q=0.5", "*")));
+        assertNull(identityOnly.select(null, null, Arrays.asList("gzip", "identity;q=0")));
+        assertNull(identityOnly.select(null, null, Arrays.asList("gzip", "*;q=0")));
+    }
+
+    @Test
+    public void testNoAcceptableVariant() {
+        assertNull(VARIANTS.select(Collections.singletonList(MediaType.TEXT_HTML_TYPE), null, null));
+        assertNull(VARIANTS.select(null, Collections.singletonList(Locale.FRENCH), null));
+    }
+}
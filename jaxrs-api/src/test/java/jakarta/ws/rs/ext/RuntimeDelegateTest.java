@@ -1,8 +1,19 @@
 package jakarta.ws.rs.ext;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
+import java.lang.ref.WeakReference;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.RuntimeDelegateStub;
+
 import org.junit.Test;
 
 /**
@@ -23,4 +34,128 @@ public class RuntimeDelegateTest {
                     e.getMessage());
         }
     }
+
+    @Test
+    public void testHeaderDelegatesAreCached() {
+        final AtomicInteger created = new AtomicInteger();
+        RuntimeDelegate delegate = new RuntimeDelegateStub() {
+            @Override
+            public <T> HeaderDelegate<T> createHeaderDelegate(final Class<T> type) {
+                if (type == null) {
+                    throw new IllegalArgumentException("type is null");
+                }
+                created.incrementAndGet();
+                return new HeaderDelegate<T>() {
+                    @Override
+                    public T fromString(final String value) {
+                        return null;
+                    }
+
+                    @Override
+                    public String toString(final T value) {
+                        return type.getName();
+                    }
+                };
+            }
+        };
+
+        RuntimeDelegate.HeaderDelegate<Date> dates = delegate.getHeaderDelegate(Date.class);
+        assertSame(dates, delegate.getHeaderDelegate(Date.class));
+        assertEquals(String.class.getName(), delegate.getHeaderDelegate(String.class).toString(""));
+        assertEquals(2, created.get());
+        try {
+            delegate.getHeaderDelegate(null);
+            fail("IllegalArgumentException expected.");
+        } catch (IllegalArgumentException expected) {
+            // passed
+        }
+
+        delegate.invalidateHeaderDelegates();
+        assertNotSame(dates, delegate.getHeaderDelegate(Date.class));
+        assertEquals(3, created.get());
+    }
+
+    @Test
+    public void testUndeployedDelegateIsReleased() throws InterruptedException {
+        ClassLoader loader = new ClassLoader() {
+        };
+        RuntimeDelegate delegate = new RuntimeDelegateStub() {
+            @Override
+            public <T> HeaderDelegate<T> createHeaderDelegate(final Class<T> type) {
+                return new HeaderDelegate<T>() {
+                    @Override
+                    public T fromString(final String value) {
+                        return null;
+                    }
+
+                    @Override
+                    public String toString(final T value) {
+                        return null;
+                    }
+                };
+            }
+        };
+        RuntimeDelegate.setInstance(loader, delegate);
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            assertSame(delegate, RuntimeDelegate.getInstance());
+            assertNotNull(RuntimeDelegate.getInstance().getHeaderDelegate(MediaType.class));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+
+        // undeploy
+        RuntimeDelegate.setInstance(loader, null);
+        WeakReference<RuntimeDelegate> released = new WeakReference<>(delegate);
+        delegate = null;
+        loader = null;
+        for (int i = 0; i < 50 && released.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(released.get());
+    }
+
+    @Test
+    public void testClassLoaderScopedInstances() {
+        RuntimeDelegate first = new RuntimeDelegateStub();
+        RuntimeDelegate second = new RuntimeDelegateStub();
+        RuntimeDelegate global = new RuntimeDelegateStub();
+        ClassLoader firstLoader = new ClassLoader() {
+        };
+        ClassLoader secondLoader = new ClassLoader() {
+        };
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try {
+            RuntimeDelegate.setInstance(firstLoader, first);
+            RuntimeDelegate.setInstance(secondLoader, second);
+
+            thread.setContextClassLoader(firstLoader);
+            assertSame(first, RuntimeDelegate.getInstance());
+            thread.setContextClassLoader(secondLoader);
+            assertSame(second, RuntimeDelegate.getInstance());
+
+            RuntimeDelegate.setInstance(global);
+            assertSame(global, RuntimeDelegate.getInstance());
+            RuntimeDelegate.setInstance(null);
+            assertSame(second, RuntimeDelegate.getInstance());
+
+            RuntimeDelegate.setInstance(secondLoader, null);
+            try {
+                RuntimeDelegate.getInstance();
+                fail("No implementation expected for the class loader.");
+            } catch (RuntimeException expected) {
+                // passed
+            }
+        } finally {
+            thread.setContextClassLoader(original);
+            RuntimeDelegate.setInstance(firstLoader, null);
+            RuntimeDelegate.setInstance(secondLoader, null);
+            RuntimeDelegate.setInstance(null);
+        }
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Checks the class list shipped for creating AppCDS archives.
+ */
+public class ClassListTest {
+
+    private static final String PACKAGE_ROOT = "jakarta/ws/rs/";
+
+    /**
+     * Anonymous classes, which are not worth archiving, and classes depending on optional or build time only modules.
+     */
+    private static final Pattern EXCLUDED = Pattern.compile(".*\\$\\d+.*"
+            + "|jakarta/ws/rs/core/Link\\$JaxbAdapter"
+            + "|jakarta/ws/rs/core/Link\\$JaxbLink"
+            + "|jakarta/ws/rs/internal/ProviderIndexProcessor");
+
+    @Test
+    public void testListedClassesExist() throws Exception {
+        int count = 0;
+        for (String line : listedClasses()) {
+            Class.forName(line.replace('/', '.'), false, getClass().getClassLoader());
+            count++;
+        }
+        assertTrue(count > 0);
+    }
+
+    @Test
+    public void testAllClassesAreListed() throws Exception {
+        final List<String> listed = listedClasses();
+        assertEquals("class list is not sorted", new ArrayList<String>(new TreeSet<String>(listed)), listed);
+
+        final TreeSet<String> missing = new TreeSet<String>();
+        for (String name : compiledClasses()) {
+            if (!EXCLUDED.matcher(name).matches()) {
+                missing.add(name);
+            }
+        }
+        final TreeSet<String> stale = new TreeSet<String>(listed);
+        stale.removeAll(missing);
+        missing.removeAll(listed);
+        assertEquals("classes missing from the class list", Collections.emptySet(), missing);
+        assertEquals("listed classes that no longer exist", Collections.emptySet(), stale);
+    }
+
+    private List<String> listedClasses() throws Exception {
+        final InputStream in = getClass().getClassLoader().getResourceAsStream("META-INF/jakarta.ws.rs.classlist");
+        assertNotNull(in);
+        final List<String> listed = new ArrayList<String>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII))) {
+            for (String line; (line = reader.readLine()) != null;) {
+                if (!line.isEmpty()) {
+                    listed.add(line);
+                }
+            }
+        }
+        return listed;
+    }
+
+    /**
+     * Names of the API classes compiled into the directory or jar containing {@link FactoryFinder}.
+     */
+    private static List<String> compiledClasses() throws Exception {
+        final String resource = FactoryFinder.class.getName().replace('.', '/') + ".class";
+        final URL url = FactoryFinder.class.getClassLoader().getResource(resource);
+        assertNotNull(url);
+        final List<String> names = new ArrayList<String>();
+        if ("jar".equals(url.getProtocol())) {
+            final JarURLConnection connection = (JarURLConnection) url.openConnection();
+            connection.setUseCaches(false);
+            try (JarFile jar = connection.getJarFile()) {
+                for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
+                    addClass(names, entries.nextElement().getName());
+                }
+            }
+        } else {
+            final Path file = Paths.get(url.toURI());
+            final Path root = file.getRoot().resolve(
+                    file.subpath(0, file.getNameCount() - resource.split("/").length));
+            try (Stream<Path> paths = Files.walk(root.resolve(PACKAGE_ROOT))) {
+                paths.forEach(path -> addClass(names, root.relativize(path).toString().replace('\\', '/')));
+            }
+        }
+        return names;
+    }
+
+    private static void addClass(final List<String> names, final String path) {
+        if (path.startsWith(PACKAGE_ROOT) && path.endsWith(".class")) {
+            names.add(path.substring(0, path.length() - ".class".length()));
+        }
+    }
+}
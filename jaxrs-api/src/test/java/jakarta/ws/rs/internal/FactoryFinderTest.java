@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * FactoryFinder unit tests.
+ */
+public class FactoryFinderTest {
+
+    private static final String FACTORY_ID = "jakarta.ws.rs.internal.FactoryFinderTest.Service";
+
+    /**
+     * Service looked up in the tests.
+     */
+    public interface Service {
+    }
+
+    /**
+     * Service implementation registered by {@link ServiceClassLoader}.
+     */
+    public static class ServiceImpl implements Service {
+    }
+
+    /**
+     * Service implementation listed in the provider index.
+     */
+    public static class IndexedServiceImpl implements Service {
+    }
+
+    private static URL file(final String content) throws IOException {
+        File file = File.createTempFile("factory-finder", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file.toURI().toURL();
+    }
+
+    /**
+     * Class loader serving a {@code META-INF/services} file for {@link Service} and counting the lookups.
+     */
+    private static final class ServiceClassLoader extends ClassLoader {
+
+        private final URL servicesFile;
+        private final URL index;
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        private ServiceClassLoader(final URL servicesFile, final URL index) {
+            super(FactoryFinderTest.class.getClassLoader());
+            this.servicesFile = servicesFile;
+            this.index = index;
+        }
+
+        @Override
+        protected URL findResource(final String name) {
+            if (index != null && name.equals(FactoryFinder.PROVIDER_INDEX)) {
+                return index;
+            }
+            return super.findResource(name);
+        }
+
+        @Override
+        protected Enumeration<URL> findResources(final String name) throws IOException {
+            if (name.equals("META-INF/services/" + Service.class.getName())) {
+                lookups.incrementAndGet();
+                return Collections.enumeration(Collections.singletonList(servicesFile));
+            }
+            return super.findResources(name);
+        }
+    }
+
+    @Test
+    public void testProviderClassIsCachedPerClassLoader() throws Exception {
+        ServiceClassLoader loader = new ServiceClassLoader(file(ServiceImpl.class.getName()), null);
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            Object first = FactoryFinder.find(FACTORY_ID, Service.class);
+            Object second = FactoryFinder.find(FACTORY_ID, Service.class);
+
+            assertTrue(first instanceof ServiceImpl);
+            assertTrue(second instanceof ServiceImpl);
+            assertNotSame(first, second);
+            assertEquals(1, loader.lookups.get());
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testProviderIndexIsConsultedFirst() throws Exception {
+        ServiceClassLoader loader = new ServiceClassLoader(file(ServiceImpl.class.getName()),
+                file(FACTORY_ID + "=" + IndexedServiceImpl.class.getName()));
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            assertTrue(FactoryFinder.find(FACTORY_ID, Service.class) instanceof IndexedServiceImpl);
+            assertEquals(0, loader.lookups.get());
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testSystemPropertyChange() throws Exception {
+        try {
+            System.setProperty(FACTORY_ID, ServiceImpl.class.getName());
+            assertTrue(FactoryFinder.find(FACTORY_ID, Service.class) instanceof ServiceImpl);
+
+            System.setProperty(FACTORY_ID, "jakarta.ws.rs.internal.Missing");
+            FactoryFinder.find(FACTORY_ID, Service.class);
+            fail("ClassNotFoundException expected.");
+        } catch (ClassNotFoundException expected) {
+            // passed
+        } finally {
+            System.clearProperty(FACTORY_ID);
+        }
+    }
+}
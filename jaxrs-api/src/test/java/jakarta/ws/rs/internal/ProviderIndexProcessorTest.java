@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+import org.junit.Test;
+
+/**
+ * ProviderIndexProcessor unit tests.
+ */
+public class ProviderIndexProcessorTest {
+
+    @Test
+    public void testIndexIsGenerated() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+
+        File dir = Files.createTempDirectory("provider-index").toFile();
+        File source = new File(dir, "TestDelegate.java");
+        Files.write(source.toPath(), ("package test;\n"
+                + "public class TestDelegate extends jakarta.ws.rs.ext.RuntimeDelegate {\n"
+                + "    public abstract static class AbstractBuilder extends jakarta.ws.rs.client.ClientBuilder {}\n"
+                + "    public static class Builder extends AbstractBuilder {}\n"
+                + "}\n").getBytes(StandardCharsets.UTF_8));
+
+        int result = compiler.run(null, null, null, "-proc:only",
+                "-processor", ProviderIndexProcessor.class.getName(),
+                "-cp", System.getProperty("java.class.path"),
+                "-d", dir.getPath(), source.getPath());
+        assertEquals(0, result);
+
+        File index = new File(dir, FactoryFinder.PROVIDER_INDEX);
+        assertTrue(index.isFile());
+        Properties props = new Properties();
+        try (InputStream in = new FileInputStream(index)) {
+            props.load(in);
+        }
+        assertEquals("test.TestDelegate", props.getProperty(RuntimeDelegate.JAXRS_RUNTIME_DELEGATE_PROPERTY));
+        assertEquals("test.TestDelegate$Builder", props.getProperty(ClientBuilder.JAXRS_DEFAULT_CLIENT_BUILDER_PROPERTY));
+        assertEquals(2, props.size());
+    }
+
+    @Test
+    public void testSeveralImplementationsAreReported() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+
+        File dir = Files.createTempDirectory("provider-index").toFile();
+        File source = writeDelegates(dir);
+
+        int result = compiler.run(null, null, new ByteArrayOutputStream(), "-proc:only",
+                "-processor", ProviderIndexProcessor.class.getName(),
+                "-cp", System.getProperty("java.class.path"),
+                "-d", dir.getPath(), source.getPath());
+        assertNotEquals(0, result);
+        assertFalse(new File(dir, FactoryFinder.PROVIDER_INDEX).exists());
+    }
+
+    @Test
+    public void testImplementationNamedByOption() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+
+        File dir = Files.createTempDirectory("provider-index").toFile();
+        File source = writeDelegates(dir);
+
+        int result = compiler.run(null, null, null, "-proc:only",
+                "-processor", ProviderIndexProcessor.class.getName(),
+                "-A" + RuntimeDelegate.JAXRS_RUNTIME_DELEGATE_PROPERTY + "=test.TestDelegate$Alternative",
+                "-cp", System.getProperty("java.class.path"),
+                "-d", dir.getPath(), source.getPath());
+        assertEquals(0, result);
+
+        Properties props = new Properties();
+        try (InputStream in = new FileInputStream(new File(dir, FactoryFinder.PROVIDER_INDEX))) {
+            props.load(in);
+        }
+        assertEquals("test.TestDelegate$Alternative",
+                props.getProperty(RuntimeDelegate.JAXRS_RUNTIME_DELEGATE_PROPERTY));
+        assertEquals(1, props.size());
+    }
+
+    private static File writeDelegates(final File dir) throws Exception {
+        File source = new File(dir, "TestDelegate.java");
+        Files.write(source.toPath(), ("package test;\n"
+                + "public class TestDelegate extends jakarta.ws.rs.ext.RuntimeDelegate {\n"
+                + "    public static class Alternative extends TestDelegate {}\n"
+                + "}\n").getBytes(StandardCharsets.UTF_8));
+        return source;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.Test;
+
+/**
+ * {@link WeakIdentityMap} unit tests.
+ */
+public class WeakIdentityMapTest {
+
+    @Test
+    public void testIdentityKeys() {
+        WeakIdentityMap<String, String> map = new WeakIdentityMap<>();
+        String key = new String("key");
+        map.put(key, "value");
+        assertEquals("value", map.get(key));
+        assertNull(map.get(new String("key")));
+        assertEquals("value", map.put(key, "other"));
+        assertEquals(1, map.size());
+        assertEquals("other", map.remove(key));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testNullKey() {
+        WeakIdentityMap<Object, String> map = new WeakIdentityMap<>();
+        assertEquals("null", map.computeIfAbsent(null, k -> "null"));
+        assertEquals("null", map.computeIfAbsent(null, k -> "other"));
+        assertNull(map.get(new Object()));
+        assertEquals("null", map.remove(null));
+        assertNull(map.get(null));
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        WeakIdentityMap<Object, Object> map = new WeakIdentityMap<>();
+        Object key = new Object();
+        Object value = map.computeIfAbsent(key, k -> new Object());
+        assertSame(value, map.computeIfAbsent(key, k -> new Object()));
+    }
+
+    @Test
+    public void testCollectedKeysAreExpunged() throws InterruptedException {
+        WeakIdentityMap<Object, String> map = new WeakIdentityMap<>();
+        Object key = new Object();
+        WeakReference<Object> reference = new WeakReference<>(key);
+        map.put(key, "value");
+        key = null;
+        Object live = new Object();
+        map.put(live, "live");
+        for (int i = 0; i < 50 && map.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+            map.put(live, "live");
+        }
+        assertNull(reference.get());
+        assertEquals(1, map.size());
+        assertEquals("live", map.get(live));
+    }
+}